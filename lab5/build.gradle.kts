@@ -3,6 +3,7 @@ plugins {
     id("jacoco")
     id("org.springframework.boot") version "3.2.5"
     id("io.spring.dependency-management") version "1.1.4"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "org.example"
@@ -17,6 +18,11 @@ dependencies {
     implementation("com.opencsv:opencsv:5.9")
     implementation("org.springframework.boot:spring-boot-starter")
     implementation("org.springframework.boot:spring-boot-starter-web")
+    // wariant reaktywny API - uruchamiany profilem "reactive"
+    implementation("org.springframework.boot:spring-boot-starter-webflux")
+    // binarne formaty odpowiedzi (Accept: application/cbor, application/x-jackson-smile)
+    implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-cbor")
+    implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-smile")
 
     testImplementation(platform("org.junit:junit-bom:5.10.0"))
     testImplementation("org.junit.jupiter:junit-jupiter")
@@ -26,11 +32,44 @@ dependencies {
     testImplementation("org.springframework.boot:spring-boot-starter-test")
 }
 
+// ustawienia JDK HttpClient dla całej JVM - czyta je pierwszy tworzony klient
+val httpClientJvmArgs = listOf("-Djdk.httpclient.keepalive.timeout=30")
+
+tasks.bootRun {
+    jvmArgs(httpClientJvmArgs)
+}
+
 tasks.test {
-    useJUnitPlatform()
+    useJUnitPlatform {
+        excludeTags("benchmark")
+    }
     finalizedBy(tasks.jacocoTestReport)
 }
 
+// ./gradlew benchmark - uruchamia tylko testy oznaczone @Tag("benchmark")
+tasks.register<Test>("benchmark") {
+    description = "Runs benchmark tests tagged with 'benchmark'."
+    group = "verification"
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    useJUnitPlatform {
+        includeTags("benchmark")
+    }
+    jvmArgs(httpClientJvmArgs)
+    testLogging {
+        showStandardStreams = true
+    }
+    outputs.upToDateWhen { false }
+}
+
+// ./gradlew jmh - mikrobenchmarki JMH z src/jmh/java
+jmh {
+    warmupIterations.set(3)
+    iterations.set(5)
+    fork.set(1)
+    resultFormat.set("TEXT")
+}
+
 jacoco {
     toolVersion = "0.8.12"
 }
@@ -44,7 +83,10 @@ tasks.jacocoTestReport {
     }
 }
 
+// Java 21 wymagana dla całego projektu (patrz README) - wątki wirtualne w strumieniu zmian SSE
+// i w trybie włączanym profilem "virtual" (application-virtual.properties)
 java {
-    sourceCompatibility = JavaVersion.VERSION_17
-    targetCompatibility = JavaVersion.VERSION_17
+    toolchain {
+        languageVersion.set(JavaLanguageVersion.of(21))
+    }
 }
@@ -0,0 +1,68 @@
+package org.example.benchmark;
+
+import org.example.model.Employee;
+import org.example.model.Position;
+import org.example.service.AutocompleteIndex;
+import org.example.service.EmployeeService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Czas podpowiedzi (top 10) z {@link AutocompleteIndex} przy 1M pracowników
+ * w porównaniu ze skanem tablicy z {@code contains} na każde naciśnięcie klawisza.
+ * Uruchomienie: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AutocompleteBenchmark {
+
+    @Param({"1000000"})
+    private int size;
+
+    @Param({"surname12", "name5", "comp"})
+    private String prefix;
+
+    private EmployeeService employeeService;
+    private AutocompleteIndex autocompleteIndex;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Position[] positions = Position.values();
+        Employee[] employees = new Employee[size];
+        for (int i = 0; i < size; i++) {
+            employees[i] = new Employee("Name" + i, "Surname" + i, "user" + i + "@example.com",
+                    "Company" + (i % 50), positions[i % positions.length]);
+        }
+        employeeService = new EmployeeService(employees);
+        autocompleteIndex = new AutocompleteIndex(employeeService);
+    }
+
+    @Benchmark
+    public List<Employee> index() {
+        return autocompleteIndex.suggestEmployees(prefix, 10);
+    }
+
+    @Benchmark
+    public int scan() {
+        int found = 0;
+        for (Employee e : employeeService.getEmployees()) {
+            if (e.getName().toLowerCase().contains(prefix) || e.getSurname().toLowerCase().contains(prefix)) {
+                if (++found == 10) {
+                    break;
+                }
+            }
+        }
+        return found;
+    }
+}
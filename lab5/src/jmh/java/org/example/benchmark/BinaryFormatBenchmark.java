@@ -0,0 +1,73 @@
+package org.example.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.example.dto.EmployeeJsonList;
+import org.example.dto.EmployeeProjection;
+import org.example.enums.EmploymentStatus;
+import org.example.model.Employee;
+import org.example.model.Position;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Czas serializacji i rozmiar odpowiedzi dla listingu 100k pracowników w JSON, CBOR i Smile.
+ * Rozmiar jest wypisywany raz w {@link #setUp()}.
+ * Uruchomienie: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BinaryFormatBenchmark {
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    @Param({"100000"})
+    private int size;
+
+    private ObjectMapper mapper;
+    private EmployeeJsonList listing;
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream(32 << 20);
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        mapper = switch (format) {
+            case "cbor" -> new CBORMapper();
+            case "smile" -> new SmileMapper();
+            default -> new ObjectMapper();
+        };
+        Position[] positions = Position.values();
+        List<Employee> employees = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Employee employee = new Employee("Name" + i, "Surname" + i, "user" + i + "@example.com",
+                    "Company" + (i % 50), positions[i % positions.length]);
+            employee.setStatus(EmploymentStatus.ACTIVE);
+            employees.add(employee);
+        }
+        listing = new EmployeeJsonList(employees, EmployeeProjection.ALL, true);
+
+        System.out.printf("%n%s payload for %d employees: %d bytes%n", format, size, serialize());
+    }
+
+    @Benchmark
+    public int serialize() throws IOException {
+        out.reset();
+        mapper.writeValue(out, listing);
+        return out.size();
+    }
+}
@@ -0,0 +1,90 @@
+package org.example.benchmark;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.dto.EmployeeDTO;
+import org.example.dto.EmployeeJsonList;
+import org.example.dto.EmployeeProjection;
+import org.example.enums.EmploymentStatus;
+import org.example.model.Employee;
+import org.example.model.Position;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Porównanie serializacji listy pracowników: dotychczasowa ścieżka (EmployeeDTO na każdy wiersz
+ * + ArrayList + refleksyjny zapis Jacksona) vs zapis Employee prosto do JsonGenerator.
+ * Uruchomienie: ./gradlew jmh (wynik z -prof gc pokazuje też alokacje na operację)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EmployeeSerializationBenchmark {
+
+    @Param({"100", "1000"})
+    private int size;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream(1 << 20);
+    private List<Employee> employees;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Position[] positions = Position.values();
+        employees = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Employee employee = new Employee("Name" + i, "Surname" + i, "user" + i + "@example.com",
+                    "Company" + (i % 50), positions[i % positions.length]);
+            employee.setStatus(EmploymentStatus.ACTIVE);
+            employees.add(employee);
+        }
+    }
+
+    @Benchmark
+    public int dtoList() throws IOException {
+        out.reset();
+        List<EmployeeDTO> dtos = new ArrayList<>(employees.size());
+        for (Employee emp : employees) {
+            dtos.add(new EmployeeDTO(
+                    emp.getName(),
+                    emp.getSurname(),
+                    emp.getEmail(),
+                    emp.getCompanyName(),
+                    emp.getPosition(),
+                    emp.getSalary(),
+                    null
+            ));
+        }
+        objectMapper.writeValue(out, dtos);
+        return out.size();
+    }
+
+    @Benchmark
+    public int directGenerator() throws IOException {
+        out.reset();
+        objectMapper.writeValue(out, new EmployeeJsonList(employees, EmployeeProjection.ALL, false));
+        return out.size();
+    }
+
+    @Benchmark
+    public int directGeneratorProjected() throws IOException {
+        out.reset();
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            new EmployeeJsonList(employees, EmployeeProjection.parse("email,company"), false).writeTo(generator);
+        }
+        return out.size();
+    }
+}
@@ -2,9 +2,10 @@ package org.example;
 
 import org.example.model.CompanyStatistics;
 import org.example.model.Employee;
+import org.example.model.SyncReport;
 import org.example.service.EmployeeService;
 import org.example.service.ImportService;
-import org.example.service.ApiService;
+import org.example.service.ApiSyncService;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
@@ -21,19 +22,19 @@ public class EmployeeManagementApplication implements CommandLineRunner {
 
     private final ImportService importService;
     private final EmployeeService employeeService;
-    private final ApiService apiService;
+    private final ApiSyncService apiSyncService;
     private final List<Employee> xmlEmployees;
     private final String csvFilePath;
 
     public EmployeeManagementApplication(
             ImportService importService,
             EmployeeService employeeService,
-            ApiService apiService,
+            ApiSyncService apiSyncService,
             @Qualifier("xmlEmployees") List<Employee> xmlEmployees,
             @Value("${app.csv.filepath}") String csvFilePath) {
         this.importService = importService;
         this.employeeService = employeeService;
-        this.apiService = apiService;
+        this.apiSyncService = apiSyncService;
         this.xmlEmployees = xmlEmployees;
         this.csvFilePath = csvFilePath;
     }
@@ -63,19 +64,12 @@ public class EmployeeManagementApplication implements CommandLineRunner {
         System.out.println("Employees after adding XML employees:");
         employeeService.displayAllEmployees();
 
-        System.out.println("\nFetching employees from external API:");
-        try {
-            List<Employee> apiEmployees = apiService.fetchEmployeesFromApi();
-            for (Employee emp : apiEmployees) {
-                System.out.println(emp);
-                try {
-                    employeeService.addEmployee(emp);
-                } catch (IllegalArgumentException e) {
-                    System.out.println("Employee already exists: " + emp.getEmail());
-                }
-            }
-        } catch (Exception e) {
-            System.out.println("Error fetching from API: " + e.getMessage());
+        System.out.println("\nSynchronizing employees with external API:");
+        SyncReport syncReport = apiSyncService.synchronize();
+        if (syncReport.isSuccessful()) {
+            System.out.println("Sync finished: " + syncReport);
+        } else {
+            System.out.println("Error fetching from API: " + syncReport.getError());
         }
         System.out.println("Employees after adding API employees:");
         employeeService.displayAllEmployees();
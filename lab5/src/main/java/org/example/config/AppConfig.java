@@ -4,16 +4,11 @@ package org.example.config;
 import com.google.gson.Gson;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-
-import java.net.http.HttpClient;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @Configuration
+@EnableScheduling
 public class AppConfig {
-    @Bean
-    public HttpClient httpClient() {
-        return HttpClient.newHttpClient();
-    }
-
     @Bean
     public Gson gson() {
         return new Gson();
@@ -0,0 +1,31 @@
+package org.example.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Binarne formaty odpowiedzi wybierane nagłówkiem Accept (listy pracowników i statystyki):
+ * {@code application/cbor} oraz {@code application/x-jackson-smile}.
+ * JSON pozostaje formatem domyślnym. Mappery powstają z buildera Boota (ustawienia {@code spring.jackson.*},
+ * moduły, obsługa dat), więc ten sam DTO serializuje się tak samo w JSON, CBOR i Smile.
+ */
+@Configuration
+public class BinaryFormatsConfig {
+    public static final String SMILE_VALUE = "application/x-jackson-smile";
+
+    // builder Boota ma zasięg prototype - każda metoda dostaje własną kopię
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
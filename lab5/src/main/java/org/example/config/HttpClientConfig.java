@@ -0,0 +1,74 @@
+package org.example.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Konfiguracja klienta HTTP używanego przez {@link org.example.service.ApiService}.
+ * Ustawienia klienta pochodzą z {@code app.http-client.*} w application.properties. Czas utrzymania
+ * połączeń ({@code jdk.httpclient.keepalive.timeout}) to ustawienie całej JVM - podaje się je jako -D
+ * przy starcie (patrz bootRun w build.gradle.kts).
+ */
+@Configuration
+public class HttpClientConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService httpClientExecutor(
+            @Value("${app.http-client.executor.type:bounded}") String type,
+            @Value("${app.http-client.executor.threads:16}") int threads,
+            @Value("${app.http-client.executor.queue-capacity:256}") int queueCapacity) {
+        return createExecutor(type, threads, queueCapacity);
+    }
+
+    @Bean
+    public HttpClient httpClient(
+            ExecutorService httpClientExecutor,
+            @Value("${app.http-client.connect-timeout-ms:2000}") long connectTimeoutMs,
+            @Value("${app.http-client.version:HTTP_2}") HttpClient.Version version) {
+        return createHttpClient(Duration.ofMillis(connectTimeoutMs), version, httpClientExecutor);
+    }
+
+    public static HttpClient createHttpClient(Duration connectTimeout, HttpClient.Version version, ExecutorService executor) {
+        return HttpClient.newBuilder()
+                .connectTimeout(connectTimeout)
+                .version(version)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .executor(executor)
+                .build();
+    }
+
+    public static ExecutorService createExecutor(String type, int threads, int queueCapacity) {
+        if ("virtual".equalsIgnoreCase(type)) {
+            return Executors.newVirtualThreadPerTaskExecutor();
+        }
+        if (!"bounded".equalsIgnoreCase(type)) {
+            throw new IllegalArgumentException("Unknown app.http-client.executor.type: " + type);
+        }
+        // Ograniczona pula i kolejka - przy przeciążeniu zadanie jest odrzucane. Nie CallerRunsPolicy:
+        // wywołującym bywa wątek selektora klienta, który obsługuje I/O wszystkich połączeń
+        return new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                namedDaemonThreads("http-client-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    private static ThreadFactory namedDaemonThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,32 @@
+package org.example.config;
+
+import org.example.service.RateLimiter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Limit żądań per klient przed {@code /api/employees} i {@code /api/statistics}.
+ * Klient to adres IP. Nagłówek {@code app.rate-limit.client-header} (domyślnie wyłączony) ustawiamy tylko
+ * za bramką, która sama go nadpisuje - inaczej klient zmieniający nagłówek dostaje nowy limit przy każdym żądaniu.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class RateLimitConfig implements WebMvcConfigurer {
+    private final RateLimiter rateLimiter;
+    private final String clientHeader;
+
+    public RateLimitConfig(RateLimiter rateLimiter,
+                           @Value("${app.rate-limit.client-header:}") String clientHeader) {
+        this.rateLimiter = rateLimiter;
+        this.clientHeader = clientHeader;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new RateLimitInterceptor(rateLimiter, clientHeader))
+                .addPathPatterns("/api/employees/**", "/api/statistics/**");
+    }
+}
@@ -0,0 +1,45 @@
+package org.example.config;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.example.enums.RateLimitTier;
+import org.example.exception.RateLimitExceededException;
+import org.example.service.RateLimiter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+public class RateLimitInterceptor implements HandlerInterceptor {
+    private final RateLimiter rateLimiter;
+    private final String clientHeader;
+
+    public RateLimitInterceptor(RateLimiter rateLimiter, String clientHeader) {
+        this.rateLimiter = rateLimiter;
+        this.clientHeader = clientHeader;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // ponowny dispatch po zakończeniu odpowiedzi asynchronicznej (np. eksport) nie zużywa tokenu
+        if (request.getDispatcherType() == DispatcherType.ASYNC || !(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        RateLimited rateLimited = handlerMethod.getMethodAnnotation(RateLimited.class);
+        RateLimitTier tier = rateLimited != null ? rateLimited.value() : RateLimitTier.POINT;
+
+        long waitNanos = rateLimiter.tryAcquire(clientKey(request), tier);
+        if (waitNanos > 0) {
+            long retryAfterSeconds = Math.max(1, (waitNanos + 999_999_999L) / 1_000_000_000L);
+            throw new RateLimitExceededException("Too many requests, retry after " + retryAfterSeconds + "s", retryAfterSeconds);
+        }
+        return true;
+    }
+
+    String clientKey(HttpServletRequest request) {
+        String client = clientHeader.isEmpty() ? null : request.getHeader(clientHeader);
+        if (client != null && !client.isBlank()) {
+            return "client:" + client;
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,17 @@
+package org.example.config;
+
+import org.example.enums.RateLimitTier;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Budżet limitu żądań dla endpointu. Endpointy bez adnotacji korzystają z {@link RateLimitTier#POINT}.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RateLimited {
+    RateLimitTier value();
+}
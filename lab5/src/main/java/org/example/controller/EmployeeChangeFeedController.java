@@ -0,0 +1,125 @@
+package org.example.controller;
+
+import jakarta.annotation.PreDestroy;
+import org.example.exception.InvalidDataException;
+import org.example.model.Employee;
+import org.example.model.EmployeeChangeEvent;
+import org.example.service.EmployeeChangeFeed;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Strumień zmian pracowników jako Server-Sent Events. Każde zdarzenie ma id = numer sekwencyjny,
+ * więc po zerwaniu połączenia klient wznawia od {@code Last-Event-ID} (lub {@code ?since=}).
+ * Każdy subskrybent ma własny wątek wirtualny - wolny klient nie spowalnia zapisów ani innych klientów.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/employees/changes")
+public class EmployeeChangeFeedController {
+    static final String RESYNC_EVENT = "RESYNC";
+    private static final int MAX_EVENTS_PER_READ = 256;
+
+    private final EmployeeChangeFeed changeFeed;
+    private final long heartbeatMillis;
+    private final ExecutorService subscribers = Executors.newVirtualThreadPerTaskExecutor();
+
+    public EmployeeChangeFeedController(EmployeeChangeFeed changeFeed,
+                                        @Value("${app.change-feed.heartbeat-ms:15000}") long heartbeatMillis) {
+        this.changeFeed = changeFeed;
+        this.heartbeatMillis = heartbeatMillis;
+    }
+
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+                                @RequestParam(required = false) Long since) {
+        long cursor = startSequence(lastEventId, since, changeFeed.getLastSequence());
+        // bez limitu czasu - połączenie trwa, dopóki klient go nie zamknie
+        SseEmitter emitter = new SseEmitter(0L);
+        AtomicBoolean closed = new AtomicBoolean();
+        emitter.onCompletion(() -> closed.set(true));
+        emitter.onTimeout(() -> closed.set(true));
+        emitter.onError(e -> closed.set(true));
+        subscribers.execute(() -> stream(emitter, cursor, closed));
+        return emitter;
+    }
+
+    /**
+     * Last-Event-ID ma pierwszeństwo: EventSource wznawia połączenie pod tym samym adresem (z {@code since}),
+     * więc {@code since} dotyczy tylko pierwszego połączenia.
+     */
+    static long startSequence(String lastEventId, Long since, long lastSequence) {
+        if (lastEventId != null && !lastEventId.isBlank()) {
+            try {
+                return Long.parseLong(lastEventId.trim());
+            } catch (NumberFormatException e) {
+                throw new InvalidDataException("Invalid Last-Event-ID: " + lastEventId);
+            }
+        }
+        if (since != null) {
+            return since;
+        }
+        return lastSequence;
+    }
+
+    private void stream(SseEmitter emitter, long cursor, AtomicBoolean closed) {
+        try {
+            while (!closed.get()) {
+                EmployeeChangeFeed.Batch batch = changeFeed.awaitAfter(cursor, MAX_EVENTS_PER_READ, heartbeatMillis);
+                if (batch.isResync()) {
+                    cursor = batch.getLastSequence();
+                    emitter.send(SseEmitter.event()
+                            .id(String.valueOf(cursor))
+                            .name(RESYNC_EVENT)
+                            .data(Map.of("sequence", cursor), MediaType.APPLICATION_JSON));
+                } else if (batch.getEvents().isEmpty()) {
+                    // heartbeat - wykrywa zamknięte połączenia
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                } else {
+                    for (EmployeeChangeEvent event : batch.getEvents()) {
+                        emitter.send(SseEmitter.event()
+                                .id(String.valueOf(event.getSequence()))
+                                .name(event.getType().name())
+                                .data(toBody(event), MediaType.APPLICATION_JSON));
+                        cursor = event.getSequence();
+                    }
+                }
+            }
+            emitter.complete();
+        } catch (IOException | IllegalStateException e) {
+            // klient się rozłączył
+            emitter.completeWithError(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            emitter.complete();
+        }
+    }
+
+    private static Map<String, Object> toBody(EmployeeChangeEvent event) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("sequence", event.getSequence());
+        body.put("type", event.getType());
+        body.put("email", event.getEmail());
+        Employee employee = event.getEmployee();
+        if (employee != null) {
+            body.put("employee", EmployeeController.toDtoWithStatus(employee));
+        }
+        body.put("occurredAt", event.getOccurredAt().toString());
+        return body;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        subscribers.shutdownNow();
+    }
+}
@@ -1,48 +1,196 @@
 package org.example.controller;
+import org.example.config.BinaryFormatsConfig;
+import org.example.config.RateLimited;
 import org.example.dto.EmployeeDTO;
+import org.example.dto.EmployeeJsonList;
+import org.example.dto.EmployeeProjection;
+import org.example.dto.StatusChangeDTO;
 import org.example.enums.EmploymentStatus;
+import org.example.enums.RateLimitTier;
 import org.example.exception.EmployeeNotFoundException;
 import org.example.exception.DuplicateEmailException;
 import org.example.exception.InvalidDataException;
 import org.example.service.EmployeeService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.example.model.BatchResult;
 import org.example.model.Employee;
+import org.example.model.EmployeePage;
+import org.example.model.EmployeeQuery;
+import org.example.model.EmployeeQueryResult;
+import org.example.model.Position;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/api/employees")
 public class EmployeeController {
+    static final int DEFAULT_PAGE_SIZE = 100;
+    static final int MAX_PAGE_SIZE = 1000;
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    static final String NDJSON_VALUE = "application/x-ndjson";
+    private static final int EXPORT_FLUSH_EVERY = 1000;
+    static final int MAX_BATCH_SIZE = 10_000;
+
     private final EmployeeService employeeService;
+    private final ObjectMapper objectMapper;
 
-    public EmployeeController(EmployeeService employeeService) {
+    public EmployeeController(EmployeeService employeeService, ObjectMapper objectMapper) {
         this.employeeService = employeeService;
+        this.objectMapper = objectMapper;
     }
 
+    @RateLimited(RateLimitTier.SCAN)
     @GetMapping
-    public ResponseEntity<List<EmployeeDTO>> getAllEmployees(@RequestParam(required = false) String company) {
-        Employee[] employees = employeeService.getEmployees();
-        List<EmployeeDTO> employeeDTOs = new ArrayList<>();
+    public ResponseEntity<EmployeeJsonList> getAllEmployees(
+            @RequestParam(required = false) String company,
+            @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int limit,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String fields,
+            WebRequest webRequest) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new InvalidDataException("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        EmployeeProjection projection = EmployeeProjection.parse(fields);
+        // ETag z wersji danych - przy braku zmian zwracamy 304 bez budowania odpowiedzi
+        if (checkNotModified(webRequest, employeeService.getVersion())) {
+            return null;
+        }
+        String afterEmail = decodeCursor(cursor);
 
-        for (Employee emp : employees) {
-            if (company != null && !emp.getCompanyName().equalsIgnoreCase(company)) {
-                continue;
+        // pobieramy jeden rekord więcej, żeby wiedzieć czy istnieje następna strona
+        List<Employee> page = employeeService.getEmployeesPage(afterEmail, limit + 1, company);
+        boolean hasNext = page.size() > limit;
+        if (hasNext) {
+            page = page.subList(0, limit);
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (hasNext) {
+            String nextCursor = encodeCursor(page.get(page.size() - 1).getEmail());
+            String nextLink = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("cursor", nextCursor)
+                    .replaceQueryParam("limit", limit)
+                    .toUriString();
+            response.header(NEXT_CURSOR_HEADER, nextCursor);
+            response.header(HttpHeaders.LINK, "<" + nextLink + ">; rel=\"next\"");
+        }
+        // listing nigdy nie zwracał statusu (zawsze null) - format bez zmian
+        return response.body(new EmployeeJsonList(page, projection, false));
+    }
+
+    /**
+     * Eksport wszystkich pracowników jako NDJSON (jeden obiekt JSON na linię).
+     * Dane są zapisywane prosto ze snapshotu tablicy do strumienia odpowiedzi,
+     * bez budowania listy w pamięci.
+     */
+    @RateLimited(RateLimitTier.SCAN)
+    @GetMapping(value = "/export", produces = NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportEmployees(@RequestParam(required = false) String fields) {
+        EmployeeProjection projection = EmployeeProjection.parse(fields);
+        Employee[] snapshot = employeeService.getEmployees();
+
+        StreamingResponseBody body = outputStream -> {
+            JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            int written = 0;
+            for (Employee emp : snapshot) {
+                if (emp == null) {
+                    continue;
+                }
+                projection.write(emp, true, generator);
+                generator.writeRaw('\n');
+                written++;
+                // pierwsza linia od razu (szybki TTFB), potem co EXPORT_FLUSH_EVERY rekordów
+                if (written == 1 || written % EXPORT_FLUSH_EVERY == 0) {
+                    generator.flush();
+                }
             }
-            EmployeeDTO dto = new EmployeeDTO(
-                    emp.getName(),
-                    emp.getSurname(),
-                    emp.getEmail(),
-                    emp.getCompanyName(),
-                    emp.getPosition(),
-                    emp.getSalary(),
-                    null
-            );
-            employeeDTOs.add(dto);
+            generator.close();
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NDJSON_VALUE))
+                .body(body);
+    }
+
+    /**
+     * ETag wersji danych dla reprezentacji wybranej nagłówkiem Accept - JSON, CBOR i Smile
+     * tej samej wersji to różne bajty, więc dostają różne ETagi.
+     */
+    static String versionETag(long version, String accept) {
+        return "\"v" + version + "-" + representation(accept) + "\"";
+    }
+
+    /**
+     * Ustawia {@code Vary: Accept} i sprawdza If-None-Match względem ETagu wersji i reprezentacji.
+     */
+    static boolean checkNotModified(WebRequest webRequest, long version) {
+        if (webRequest instanceof ServletWebRequest servletRequest && servletRequest.getResponse() != null) {
+            servletRequest.getResponse().addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        }
+        return webRequest.checkNotModified(versionETag(version, webRequest.getHeader(HttpHeaders.ACCEPT)));
+    }
+
+    // Format, który wybierze negocjacja treści: typ o najwyższym q (przy remisie pierwszy), domyślnie JSON
+    static String representation(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return "json";
+        }
+        List<MediaType> accepted;
+        try {
+            accepted = MediaType.parseMediaTypes(accept);
+        } catch (IllegalArgumentException e) {
+            return "json";
+        }
+        MediaType best = null;
+        for (MediaType type : accepted) {
+            if (best == null || type.getQualityValue() > best.getQualityValue()) {
+                best = type;
+            }
+        }
+        if (best == null || best.includes(MediaType.APPLICATION_JSON)) {
+            return "json";
+        }
+        if (best.includes(MediaType.APPLICATION_CBOR)) {
+            return "cbor";
+        }
+        if (best.includes(MediaType.parseMediaType(BinaryFormatsConfig.SMILE_VALUE))) {
+            return "smile";
+        }
+        return "json";
+    }
+
+    static String encodeCursor(String email) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(email.toLowerCase().getBytes(StandardCharsets.UTF_8));
+    }
+
+    static String decodeCursor(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidDataException("Invalid cursor: " + cursor);
         }
-        return ResponseEntity.ok(employeeDTOs);
     }
 
     @GetMapping("/{email}")
@@ -53,16 +201,7 @@ public class EmployeeController {
             throw new EmployeeNotFoundException("Employee with email" + email + " not found");
         }
 
-        EmployeeDTO dto = new EmployeeDTO(
-                employee.getName(),
-                employee.getSurname(),
-                employee.getEmail(),
-                employee.getCompanyName(),
-                employee.getPosition(),
-                employee.getSalary(),
-                null
-        );
-        return ResponseEntity.ok(dto);
+        return ResponseEntity.ok(toDto(employee, false));
     }
 
     @PostMapping
@@ -75,112 +214,360 @@ public class EmployeeController {
             throw new DuplicateEmailException("Employee with email " + employeeDTO.getEmail() + " already exists");
         }
 
-        Employee employee = new Employee(
-                employeeDTO.getFirstName(),
-                employeeDTO.getLastName(),
-                employeeDTO.getEmail(),
-                employeeDTO.getCompany(),
-                employeeDTO.getPosition().name(),
-                employeeDTO.getSalary()
-        );
+        Employee employee = fromDto(employeeDTO);
         employeeService.addEmployee(employee);
 
-        EmployeeDTO resultDTO = new EmployeeDTO(
-                employee.getName(),
-                employee.getSurname(),
-                employee.getEmail(),
-                employee.getCompanyName(),
-                employee.getPosition(),
-                employee.getSalary(),
-                null
-        );
         return ResponseEntity.created(
                 URI.create("/api/employees/" + employee.getEmail())
-        ).body(resultDTO);
+        ).body(toDto(employee, false));
     }
 
     @PutMapping("/{email}")
     public ResponseEntity<EmployeeDTO> updateEmployee(@PathVariable String email, @RequestBody EmployeeDTO employeeDTO) {
+        Employee stored = employeeService.getEmployeeByEmail(email);
+
+        if (stored == null) {
+            throw new EmployeeNotFoundException("Employee with email " + email + " not found");
+        }
+
+        // Zmieniamy kopię - serwis podmienia obiekt i widzi stan sprzed zmiany
+        Employee employee = stored.copy();
+        applyUpdate(employee, employeeDTO);
+        employeeService.updateEmployee(employee);
+
+        return ResponseEntity.ok(toDto(employee, false));
+    }
+
+    @DeleteMapping("/{email}")
+    public ResponseEntity<Void> deleteEmployee(@PathVariable String email) {
         Employee employee = employeeService.getEmployeeByEmail(email);
 
         if (employee == null) {
             throw new EmployeeNotFoundException("Employee with email " + email + " not found");
         }
 
-        employee.setName(employeeDTO.getFirstName());
-        employee.setSurname(employeeDTO.getLastName());
-        employee.setCompanyName(employeeDTO.getCompany());
-        if (employeeDTO.getPosition() != null) {
-            employee.setPosition(employeeDTO.getPosition());
+        employeeService.deleteEmployee(email);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Pracownicy o danym statusie, stronicowani kursorem jak listing. Wyniki pochodzą z indeksu statusów,
+     * więc koszt zależy od wielkości strony, a nie od liczby wszystkich pracowników.
+     */
+    @RateLimited(RateLimitTier.SCAN)
+    @GetMapping("/status/{status}")
+    public ResponseEntity<List<EmployeeDTO>> getEmployeesByStatus(
+            @PathVariable String status,
+            @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int limit,
+            @RequestParam(required = false) String cursor) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new InvalidDataException("limit must be between 1 and " + MAX_PAGE_SIZE);
         }
-        if (employeeDTO.getSalary() != null) {
-            employee.setSalary(employeeDTO.getSalary());
+        EmploymentStatus employmentStatus = parseStatus(status);
+        long fromSlot = decodeSlotCursor(cursor);
+
+        EmployeePage page = employeeService.getEmployeesByStatus(employmentStatus, fromSlot, limit);
+        return slotPageResponse(page, limit).body(toDtosWithStatus(page.getEmployees()));
+    }
+
+    /**
+     * Filtry łączone przez AND. Serwis wybiera najbardziej selektywny indeks i przecina go z pozostałymi;
+     * {@code explain=true} zwraca dodatkowo plan wykonania i liczbę sprawdzonych rekordów.
+     */
+    @RateLimited(RateLimitTier.SCAN)
+    @GetMapping("/query")
+    public ResponseEntity<Object> queryEmployees(
+            @RequestParam(required = false) String email,
+            @RequestParam(required = false) String company,
+            @RequestParam(required = false) String position,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) Double minSalary,
+            @RequestParam(required = false) Double maxSalary,
+            @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int limit,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean explain) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new InvalidDataException("limit must be between 1 and " + MAX_PAGE_SIZE);
         }
-        employeeService.updateEmployee(employee);
+        if (minSalary != null && maxSalary != null && minSalary > maxSalary) {
+            throw new InvalidDataException("minSalary must not be greater than maxSalary");
+        }
+        EmployeeQuery query = new EmployeeQuery(
+                email,
+                company,
+                position != null ? parsePosition(position) : null,
+                status != null ? parseStatus(status) : null,
+                minSalary,
+                maxSalary
+        );
+        EmployeeQueryResult result = employeeService.query(query, decodeSlotCursor(cursor), limit);
+
+        List<EmployeeDTO> employeeDTOs = toDtosWithStatus(result.getEmployees());
+        ResponseEntity.BodyBuilder response = slotPageResponse(result.getPage(), limit);
+        if (!explain) {
+            return response.body(employeeDTOs);
+        }
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("plan", result.getPlan());
+        body.put("rowsExamined", result.getRowsExamined());
+        body.put("returned", employeeDTOs.size());
+        body.put("employees", employeeDTOs);
+        return response.body(body);
+    }
+
+    private static ResponseEntity.BodyBuilder slotPageResponse(EmployeePage page, int limit) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.hasNext()) {
+            String nextCursor = nextSlotCursor(page);
+            String nextLink = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("cursor", nextCursor)
+                    .replaceQueryParam("limit", limit)
+                    .toUriString();
+            response.header(NEXT_CURSOR_HEADER, nextCursor);
+            response.header(HttpHeaders.LINK, "<" + nextLink + ">; rel=\"next\"");
+        }
+        return response;
+    }
+
+    static String nextSlotCursor(EmployeePage page) {
+        return encodeCursor(String.valueOf(page.getNextSlot()));
+    }
+
+    static List<EmployeeDTO> toDtosWithStatus(List<Employee> employees) {
+        List<EmployeeDTO> employeeDTOs = new ArrayList<>(employees.size());
+        for (Employee emp : employees) {
+            employeeDTOs.add(toDtoWithStatus(emp));
+        }
+        return employeeDTOs;
+    }
+
+    static EmployeeDTO toDtoWithStatus(Employee employee) {
+        return toDto(employee, true);
+    }
 
-        EmployeeDTO resultDTO = new EmployeeDTO(
+    /**
+     * Jedyne mapowanie pracownika na DTO dla obu stosów (MVC i WebFlux).
+     *
+     * @param withStatus false - status jest pomijany (null), jak w odpowiedziach sprzed wprowadzenia statusów
+     */
+    static EmployeeDTO toDto(Employee employee, boolean withStatus) {
+        return new EmployeeDTO(
                 employee.getName(),
                 employee.getSurname(),
                 employee.getEmail(),
                 employee.getCompanyName(),
                 employee.getPosition(),
                 employee.getSalary(),
-                null
+                withStatus ? employee.getStatus() : null
         );
-        return ResponseEntity.ok(resultDTO);
     }
 
-    @DeleteMapping("/{email}")
-    public ResponseEntity<Void> deleteEmployee(@PathVariable String email) {
-        Employee employee = employeeService.getEmployeeByEmail(email);
+    static Employee fromDto(EmployeeDTO dto) {
+        return new Employee(
+                dto.getFirstName(),
+                dto.getLastName(),
+                dto.getEmail(),
+                dto.getCompany(),
+                dto.getPosition().name(),
+                dto.getSalary()
+        );
+    }
 
-        if (employee == null) {
-            throw new EmployeeNotFoundException("Employee with email " + email + " not found");
+    /**
+     * Przenosi pola z DTO na kopię pracownika - wspólne dla PUT pojedynczego i wsadowego.
+     * Brak stanowiska albo pensji w DTO oznacza "bez zmian".
+     */
+    static void applyUpdate(Employee employee, EmployeeDTO dto) {
+        employee.setName(dto.getFirstName());
+        employee.setSurname(dto.getLastName());
+        employee.setCompanyName(dto.getCompany());
+        if (dto.getPosition() != null) {
+            employee.setPosition(dto.getPosition());
+        }
+        if (dto.getSalary() != null) {
+            employee.setSalary(dto.getSalary());
         }
+    }
 
-        employeeService.deleteEmployee(email);
-        return ResponseEntity.noContent().build();
+    static Position parsePosition(String position) {
+        try {
+            return Position.valueOf(position.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidDataException("Unknown position: " + position);
+        }
     }
 
-    @GetMapping("/status/{status}")
-    public ResponseEntity<List<EmployeeDTO>> getEmployeesByStatus(@PathVariable String status) {
-        Employee[] employees = employeeService.getEmployees();
-        List<EmployeeDTO> employeeDTOs = new ArrayList<>();
+    /**
+     * Pracownicy z pensją w przedziale [min, max], rosnąco po pensji. Czyta tylko potrzebny fragment indeksu pensji,
+     * ale szeroki przedział stronicowany do końca obejmuje cały magazyn - budżet SCAN jak listing.
+     */
+    @RateLimited(RateLimitTier.SCAN)
+    @GetMapping("/salary")
+    public ResponseEntity<List<EmployeeDTO>> getEmployeesBySalaryRange(
+            @RequestParam double min,
+            @RequestParam double max,
+            @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int limit,
+            @RequestParam(required = false) String cursor) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new InvalidDataException("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        if (min > max) {
+            throw new InvalidDataException("min must not be greater than max");
+        }
+        Double afterSalary = null;
+        String afterEmail = null;
+        String decoded = decodeCursor(cursor);
+        if (decoded != null) {
+            int separator = decoded.indexOf('|');
+            try {
+                afterSalary = Double.parseDouble(decoded.substring(0, separator));
+                afterEmail = decoded.substring(separator + 1);
+            } catch (IndexOutOfBoundsException | NumberFormatException e) {
+                throw new InvalidDataException("Invalid cursor: " + cursor);
+            }
+        }
 
-        for (Employee emp : employees) {
-            if (emp.getPosition().name().equalsIgnoreCase(status)) {
-                EmployeeDTO dto = new EmployeeDTO(
-                        emp.getName(),
-                        emp.getSurname(),
-                        emp.getEmail(),
-                        emp.getCompanyName(),
-                        emp.getPosition(),
-                        emp.getSalary(),
-                        null
-                );
-                employeeDTOs.add(dto);
+        List<Employee> page = employeeService.getEmployeesBySalaryRange(min, max, afterSalary, afterEmail, limit + 1);
+        boolean hasNext = page.size() > limit;
+        if (hasNext) {
+            page = page.subList(0, limit);
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (hasNext) {
+            Employee last = page.get(page.size() - 1);
+            String nextCursor = encodeCursor(last.getSalary() + "|" + last.getEmail());
+            String nextLink = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("cursor", nextCursor)
+                    .replaceQueryParam("limit", limit)
+                    .toUriString();
+            response.header(NEXT_CURSOR_HEADER, nextCursor);
+            response.header(HttpHeaders.LINK, "<" + nextLink + ">; rel=\"next\"");
+        }
+        return response.body(toDtosWithStatus(page));
+    }
+
+    // czoło indeksu pensji, najwyżej MAX_PAGE_SIZE rekordów - jak najlepiej zarabiający w firmie
+    @RateLimited(RateLimitTier.POINT)
+    @GetMapping("/salary/top")
+    public ResponseEntity<List<EmployeeDTO>> getTopEarners(@RequestParam(defaultValue = "10") int n) {
+        if (n < 1 || n > MAX_PAGE_SIZE) {
+            throw new InvalidDataException("n must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        return ResponseEntity.ok(toDtosWithStatus(employeeService.getTopEarners(n)));
+    }
+
+    static EmploymentStatus parseStatus(String status) {
+        try {
+            return EmploymentStatus.valueOf(status.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidDataException("Unknown status: " + status);
+        }
+    }
+
+    static long decodeSlotCursor(String cursor) {
+        String decoded = decodeCursor(cursor);
+        if (decoded == null) {
+            return 0;
+        }
+        try {
+            long slot = Long.parseLong(decoded);
+            if (slot < 0) {
+                throw new NumberFormatException();
             }
+            return slot;
+        } catch (NumberFormatException e) {
+            throw new InvalidDataException("Invalid cursor: " + cursor);
         }
-        return ResponseEntity.ok(employeeDTOs);
     }
 
     @PatchMapping("/{email}/status")
     public ResponseEntity<EmployeeDTO> updateEmployeeStatus(@PathVariable String email, @RequestBody(required = false) EmploymentStatus status) {
-        Employee employee = employeeService.getEmployeeByEmail(email);
-        if (employee == null) {
+        Employee stored = employeeService.getEmployeeByEmail(email);
+        if (stored == null) {
             throw new EmployeeNotFoundException("Employee with email " + email + " not found");
         }
+        Employee employee = stored.copy();
         employee.setStatus(status);
         employeeService.updateEmployee(employee);
-        EmployeeDTO resultDTO = new EmployeeDTO(
-                employee.getName(),
-                employee.getSurname(),
-                employee.getEmail(),
-                employee.getCompanyName(),
-                employee.getPosition(),
-                employee.getSalary(),
-                employee.getStatus()
-        );
-        return ResponseEntity.ok(resultDTO);
+        return ResponseEntity.ok(toDto(employee, true));
+    }
+
+    @RateLimited(RateLimitTier.SCAN)
+    @PostMapping("/batch")
+    public ResponseEntity<BatchResult> addEmployees(@RequestBody List<EmployeeDTO> employeeDTOs) {
+        validateBatchSize(employeeDTOs);
+        List<Employee> employees = new ArrayList<>(employeeDTOs.size());
+        for (EmployeeDTO dto : employeeDTOs) {
+            if (dto == null) {
+                employees.add(null);
+                continue;
+            }
+            Employee employee = new Employee(
+                    dto.getFirstName(),
+                    dto.getLastName(),
+                    dto.getEmail(),
+                    dto.getCompany(),
+                    dto.getPosition()
+            );
+            if (dto.getSalary() != null) {
+                employee.setSalary(dto.getSalary());
+            }
+            employees.add(employee);
+        }
+        return ResponseEntity.ok(employeeService.addEmployees(employees));
+    }
+
+    @RateLimited(RateLimitTier.SCAN)
+    @PutMapping("/batch")
+    public ResponseEntity<BatchResult> updateEmployees(@RequestBody List<EmployeeDTO> employeeDTOs) {
+        validateBatchSize(employeeDTOs);
+        List<Employee> employees = new ArrayList<>(employeeDTOs.size());
+        for (EmployeeDTO dto : employeeDTOs) {
+            if (dto == null) {
+                employees.add(null);
+                continue;
+            }
+            Employee employee = copyOfStored(dto.getEmail());
+            applyUpdate(employee, dto);
+            employees.add(employee);
+        }
+        return ResponseEntity.ok(employeeService.updateEmployees(employees));
+    }
+
+    @RateLimited(RateLimitTier.SCAN)
+    @PatchMapping("/batch/status")
+    public ResponseEntity<BatchResult> updateEmployeeStatuses(@RequestBody List<StatusChangeDTO> changes) {
+        validateBatchSize(changes);
+        List<Employee> employees = new ArrayList<>(changes.size());
+        for (StatusChangeDTO change : changes) {
+            if (change == null) {
+                employees.add(null);
+                continue;
+            }
+            Employee employee = copyOfStored(change.getEmail());
+            employee.setStatus(change.getStatus());
+            employees.add(employee);
+        }
+        return ResponseEntity.ok(employeeService.updateEmployees(employees));
+    }
+
+    private static void validateBatchSize(List<?> items) {
+        if (items == null || items.size() > MAX_BATCH_SIZE) {
+            throw new InvalidDataException("Batch must contain at most " + MAX_BATCH_SIZE + " items");
+        }
+    }
+
+    /**
+     * Kopia zapisanego pracownika do zmiany; dla nieznanego albo pustego emaila pusty obiekt,
+     * który serwis zaraportuje jako "not found" bez przerywania całej paczki.
+     */
+    private Employee copyOfStored(String email) {
+        Employee stored = email == null || email.isBlank() ? null : employeeService.getEmployeeByEmail(email);
+        if (stored != null) {
+            return stored.copy();
+        }
+        Employee missing = new Employee();
+        missing.setEmail(email);
+        return missing;
     }
 }
@@ -0,0 +1,57 @@
+package org.example.controller;
+
+import org.example.service.ApiService;
+import org.example.service.ApiSyncService;
+import org.example.service.EmployeeChangeFeed;
+import org.example.service.RateLimiter;
+import org.example.service.StatisticsCache;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/metrics")
+public class MetricsController {
+    private final ApiService apiService;
+    private final ApiSyncService apiSyncService;
+    private final StatisticsCache statisticsCache;
+    private final RateLimiter rateLimiter;
+    private final EmployeeChangeFeed changeFeed;
+
+    public MetricsController(ApiService apiService, ApiSyncService apiSyncService, StatisticsCache statisticsCache,
+                             RateLimiter rateLimiter, EmployeeChangeFeed changeFeed) {
+        this.apiService = apiService;
+        this.apiSyncService = apiSyncService;
+        this.statisticsCache = statisticsCache;
+        this.rateLimiter = rateLimiter;
+        this.changeFeed = changeFeed;
+    }
+
+    @GetMapping("/api-client")
+    public ResponseEntity<Map<String, Object>> getApiClientMetrics() {
+        return ResponseEntity.ok(apiService.getMetrics());
+    }
+
+    @GetMapping("/sync")
+    public ResponseEntity<Map<String, Object>> getSyncMetrics() {
+        return ResponseEntity.ok(apiSyncService.getMetrics());
+    }
+
+    @GetMapping("/statistics-cache")
+    public ResponseEntity<Map<String, Object>> getStatisticsCacheMetrics() {
+        return ResponseEntity.ok(statisticsCache.getMetrics());
+    }
+
+    @GetMapping("/rate-limit")
+    public ResponseEntity<Map<String, Object>> getRateLimitMetrics() {
+        return ResponseEntity.ok(rateLimiter.getMetrics());
+    }
+
+    @GetMapping("/change-feed")
+    public ResponseEntity<Map<String, Object>> getChangeFeedMetrics() {
+        return ResponseEntity.ok(changeFeed.getMetrics());
+    }
+}
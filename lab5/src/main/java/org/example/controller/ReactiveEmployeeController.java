@@ -0,0 +1,180 @@
+package org.example.controller;
+
+import org.example.dto.EmployeeDTO;
+import org.example.enums.EmploymentStatus;
+import org.example.exception.DuplicateEmailException;
+import org.example.exception.EmployeeNotFoundException;
+import org.example.exception.InvalidDataException;
+import org.example.model.Employee;
+import org.example.model.EmployeePage;
+import org.example.service.EmployeeService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Wersja WebFlux endpointów {@link EmployeeController} - aktywna tylko przy
+ * {@code spring.main.web-application-type=reactive} (profil "reactive").
+ * Korzysta z tego samego {@link EmployeeService}; listy są strumieniowane jako {@link Flux}.
+ * Zapisy idą pod blokadą serwisu (razem z powiadomieniem indeksów, cache i strumienia zmian),
+ * więc wykonują się na {@link Schedulers#boundedElastic()}, nie na wątkach event-loop.
+ * Tylko w MVC: operacje wsadowe, {@code ?fields=}, {@code /query}, {@code /salary} i {@code /salary/top}.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping("/api/employees")
+public class ReactiveEmployeeController {
+    private final EmployeeService employeeService;
+
+    public ReactiveEmployeeController(EmployeeService employeeService) {
+        this.employeeService = employeeService;
+    }
+
+    @GetMapping
+    public Flux<EmployeeDTO> getAllEmployees(
+            @RequestParam(required = false) String company,
+            @RequestParam(defaultValue = "" + EmployeeController.DEFAULT_PAGE_SIZE) int limit,
+            @RequestParam(required = false) String cursor,
+            ServerWebExchange exchange) {
+        if (limit < 1 || limit > EmployeeController.MAX_PAGE_SIZE) {
+            throw new InvalidDataException("limit must be between 1 and " + EmployeeController.MAX_PAGE_SIZE);
+        }
+        if (checkNotModified(exchange, employeeService.getVersion())) {
+            return Flux.empty();
+        }
+        String afterEmail = EmployeeController.decodeCursor(cursor);
+
+        List<Employee> page = employeeService.getEmployeesPage(afterEmail, limit + 1, company);
+        if (page.size() > limit) {
+            page = page.subList(0, limit);
+            String nextCursor = EmployeeController.encodeCursor(page.get(page.size() - 1).getEmail());
+            String nextLink = UriComponentsBuilder.fromUri(exchange.getRequest().getURI())
+                    .replaceQueryParam("cursor", nextCursor)
+                    .replaceQueryParam("limit", limit)
+                    .toUriString();
+            exchange.getResponse().getHeaders().add(EmployeeController.NEXT_CURSOR_HEADER, nextCursor);
+            exchange.getResponse().getHeaders().add(HttpHeaders.LINK, "<" + nextLink + ">; rel=\"next\"");
+        }
+        return Flux.fromIterable(page).map(emp -> EmployeeController.toDto(emp, false));
+    }
+
+    /**
+     * Eksport NDJSON - rekordy są pobierane ze snapshotu tablicy dopiero, gdy klient jest gotowy je odebrać.
+     */
+    @GetMapping(value = "/export", produces = EmployeeController.NDJSON_VALUE)
+    public Flux<EmployeeDTO> exportEmployees() {
+        return Flux.defer(() -> Flux.fromArray(employeeService.getEmployees()))
+                .filter(Objects::nonNull)
+                .map(emp -> EmployeeController.toDto(emp, true));
+    }
+
+    @GetMapping("/{email}")
+    public Mono<EmployeeDTO> getEmployeeByEmail(@PathVariable String email) {
+        return Mono.fromSupplier(() -> employeeService.getEmployeeByEmail(email))
+                .map(emp -> EmployeeController.toDto(emp, false))
+                .switchIfEmpty(Mono.error(() -> new EmployeeNotFoundException("Employee with email" + email + " not found")));
+    }
+
+    /**
+     * Odpowiednik {@link EmployeeController#getEmployeesByStatus} - strona z indeksu statusów, ten sam kursor.
+     */
+    @GetMapping("/status/{status}")
+    public Flux<EmployeeDTO> getEmployeesByStatus(
+            @PathVariable String status,
+            @RequestParam(defaultValue = "" + EmployeeController.DEFAULT_PAGE_SIZE) int limit,
+            @RequestParam(required = false) String cursor,
+            ServerWebExchange exchange) {
+        if (limit < 1 || limit > EmployeeController.MAX_PAGE_SIZE) {
+            throw new InvalidDataException("limit must be between 1 and " + EmployeeController.MAX_PAGE_SIZE);
+        }
+        EmploymentStatus employmentStatus = EmployeeController.parseStatus(status);
+        long fromSlot = EmployeeController.decodeSlotCursor(cursor);
+
+        EmployeePage page = employeeService.getEmployeesByStatus(employmentStatus, fromSlot, limit);
+        if (page.hasNext()) {
+            String nextCursor = EmployeeController.nextSlotCursor(page);
+            String nextLink = UriComponentsBuilder.fromUri(exchange.getRequest().getURI())
+                    .replaceQueryParam("cursor", nextCursor)
+                    .replaceQueryParam("limit", limit)
+                    .toUriString();
+            exchange.getResponse().getHeaders().add(EmployeeController.NEXT_CURSOR_HEADER, nextCursor);
+            exchange.getResponse().getHeaders().add(HttpHeaders.LINK, "<" + nextLink + ">; rel=\"next\"");
+        }
+        return Flux.fromIterable(page.getEmployees()).map(EmployeeController::toDtoWithStatus);
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<EmployeeDTO>> addEmployee(@RequestBody EmployeeDTO employeeDTO) {
+        return Mono.fromCallable(() -> {
+            if (employeeDTO.getEmail() == null || employeeDTO.getEmail().isEmpty()) {
+                throw new InvalidDataException("Email cannot be null or empty");
+            }
+            if (employeeService.getEmployeeByEmail(employeeDTO.getEmail()) != null) {
+                throw new DuplicateEmailException("Employee with email " + employeeDTO.getEmail() + " already exists");
+            }
+            Employee employee = EmployeeController.fromDto(employeeDTO);
+            employeeService.addEmployee(employee);
+            return ResponseEntity.created(URI.create("/api/employees/" + employee.getEmail()))
+                    .body(EmployeeController.toDto(employee, false));
+        }).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @PutMapping("/{email}")
+    public Mono<EmployeeDTO> updateEmployee(@PathVariable String email, @RequestBody EmployeeDTO employeeDTO) {
+        return Mono.fromCallable(() -> {
+            Employee employee = copyOfStored(email);
+            EmployeeController.applyUpdate(employee, employeeDTO);
+            employeeService.updateEmployee(employee);
+            return EmployeeController.toDto(employee, false);
+        }).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @DeleteMapping("/{email}")
+    public Mono<ResponseEntity<Void>> deleteEmployee(@PathVariable String email) {
+        return Mono.fromCallable(() -> {
+            if (employeeService.getEmployeeByEmail(email) == null) {
+                throw new EmployeeNotFoundException("Employee with email " + email + " not found");
+            }
+            employeeService.deleteEmployee(email);
+            return ResponseEntity.noContent().<Void>build();
+        }).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @PatchMapping("/{email}/status")
+    public Mono<EmployeeDTO> updateEmployeeStatus(@PathVariable String email,
+                                                  @RequestBody(required = false) EmploymentStatus status) {
+        return Mono.fromCallable(() -> {
+            Employee employee = copyOfStored(email);
+            employee.setStatus(status);
+            employeeService.updateEmployee(employee);
+            return EmployeeController.toDto(employee, true);
+        }).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private Employee copyOfStored(String email) {
+        Employee stored = employeeService.getEmployeeByEmail(email);
+        if (stored == null) {
+            throw new EmployeeNotFoundException("Employee with email " + email + " not found");
+        }
+        return stored.copy();
+    }
+
+    /**
+     * Odpowiednik {@link EmployeeController#checkNotModified} dla WebFluxa.
+     */
+    static boolean checkNotModified(ServerWebExchange exchange, long version) {
+        exchange.getResponse().getHeaders().add(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        String accept = exchange.getRequest().getHeaders().getFirst(HttpHeaders.ACCEPT);
+        return exchange.checkNotModified(EmployeeController.versionETag(version, accept));
+    }
+}
@@ -0,0 +1,76 @@
+package org.example.controller;
+
+import org.example.dto.CompanyStatisticsDTO;
+import org.example.exception.EmployeeNotFoundException;
+import org.example.service.EmployeeService;
+import org.example.service.StatisticsCache;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Wersja WebFlux {@link StatisticsController}. Odczyt z {@link StatisticsCache} blokuje (blokada LRU,
+ * a przy równoległym chybieniu czekanie na wspólne obliczenie), więc idzie na {@link Schedulers#boundedElastic()} -
+ * nie na event-loop ani na {@link Schedulers#parallel()}, który jest tylko dla pracy nieblokującej.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping("/api/statistics")
+public class ReactiveStatisticsController {
+    private final EmployeeService employeeService;
+    private final StatisticsCache statisticsCache;
+
+    public ReactiveStatisticsController(EmployeeService employeeService, StatisticsCache statisticsCache) {
+        this.employeeService = employeeService;
+        this.statisticsCache = statisticsCache;
+    }
+
+    @GetMapping("/salary/average")
+    public Mono<Map<String, Double>> getAverageSalary(
+            @RequestParam(required = false) String company,
+            ServerWebExchange exchange) {
+        if (ReactiveEmployeeController.checkNotModified(exchange, employeeService.getVersion())) {
+            return Mono.empty();
+        }
+        return Mono.fromSupplier(() -> {
+            Map<String, Double> result = new HashMap<>();
+            result.put("averageSalary", StatisticsController.averageSalary(employeeService, statisticsCache, company));
+            return result;
+        }).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @GetMapping("/company/{companyName}")
+    public Mono<CompanyStatisticsDTO> getCompanyStatistics(
+            @PathVariable String companyName,
+            ServerWebExchange exchange) {
+        if (ReactiveEmployeeController.checkNotModified(exchange, employeeService.getVersion())) {
+            return Mono.empty();
+        }
+        return Mono.fromSupplier(() -> StatisticsController.companyStatistics(employeeService, statisticsCache, companyName))
+                .subscribeOn(Schedulers.boundedElastic())
+                .switchIfEmpty(Mono.error(() -> new EmployeeNotFoundException("Company " + companyName + " not found")));
+    }
+
+    @GetMapping("/positions")
+    public Mono<Map<String, Integer>> getEmployeesByPosition(ServerWebExchange exchange) {
+        if (ReactiveEmployeeController.checkNotModified(exchange, employeeService.getVersion())) {
+            return Mono.empty();
+        }
+        return Mono.fromSupplier(() -> StatisticsController.positionCounts(employeeService, statisticsCache))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @GetMapping("/status")
+    public Mono<Map<String, Integer>> getEmployeesByStatus() {
+        return Mono.fromSupplier(() -> {
+            Map<String, Integer> result = new HashMap<>();
+            result.put("employed", employeeService.getEmployees().length);
+            return result;
+        });
+    }
+}
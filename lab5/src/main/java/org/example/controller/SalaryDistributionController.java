@@ -0,0 +1,168 @@
+package org.example.controller;
+
+import org.example.config.RateLimited;
+import org.example.enums.RateLimitTier;
+import org.example.exception.EmployeeNotFoundException;
+import org.example.exception.InvalidDataException;
+import org.example.model.Position;
+import org.example.model.SalaryMoments;
+import org.example.service.EmployeeService;
+import org.example.service.SalaryDistributionIndex;
+import org.example.service.SalaryHistogram;
+import org.example.service.SalaryMomentsIndex;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Rozkład pensji dla wszystkich pracowników, firmy ({@code company}) albo stanowiska ({@code position})
+ * oraz odchylenie standardowe, min i max w grupach. Odpowiedzi pochodzą z histogramów i momentów
+ * utrzymywanych przy każdej zmianie - bez sortowania ani przeglądania pensji, dlatego budżet POINT.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/statistics/salary")
+public class SalaryDistributionController {
+    private final EmployeeService employeeService;
+    private final SalaryDistributionIndex salaryDistributionIndex;
+    private final SalaryMomentsIndex salaryMomentsIndex;
+
+    public SalaryDistributionController(EmployeeService employeeService,
+                                        SalaryDistributionIndex salaryDistributionIndex,
+                                        SalaryMomentsIndex salaryMomentsIndex) {
+        this.employeeService = employeeService;
+        this.salaryDistributionIndex = salaryDistributionIndex;
+        this.salaryMomentsIndex = salaryMomentsIndex;
+    }
+
+    /**
+     * Percentyle pensji, domyślnie p50, p90 i p99 (np. {@code p=25,50,75}). Dokładność - szerokość przedziału histogramu.
+     */
+    @RateLimited(RateLimitTier.POINT)
+    @GetMapping("/percentiles")
+    public ResponseEntity<Map<String, Object>> getPercentiles(
+            @RequestParam(required = false) String company,
+            @RequestParam(required = false) String position,
+            @RequestParam(defaultValue = "50,90,99") List<Double> p,
+            WebRequest webRequest) {
+        double[] percentiles = new double[p.size()];
+        for (int i = 0; i < percentiles.length; i++) {
+            percentiles[i] = p.get(i);
+            if (!(percentiles[i] > 0 && percentiles[i] <= 100)) {
+                throw new InvalidDataException("p must be in (0, 100]");
+            }
+        }
+        Arrays.sort(percentiles);
+        SalaryHistogram histogram = histogram(company, position);
+        if (EmployeeController.checkNotModified(webRequest, employeeService.getVersion())) {
+            return null;
+        }
+        double[] values = histogram.percentiles(percentiles);
+        if (values.length == 0) {
+            // grupa opróżniona między odczytami
+            throw new EmployeeNotFoundException("No employees");
+        }
+
+        Map<String, Double> byPercentile = new LinkedHashMap<>();
+        for (int i = 0; i < percentiles.length; i++) {
+            byPercentile.put(percentileKey(percentiles[i]), values[i]);
+        }
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("count", histogram.count());
+        result.put("percentiles", byPercentile);
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * Niepuste przedziały histogramu rosnąco: {@code from} (włącznie), {@code to} (wyłącznie), {@code count}.
+     */
+    @RateLimited(RateLimitTier.POINT)
+    @GetMapping("/histogram")
+    public ResponseEntity<Map<String, Object>> getHistogram(
+            @RequestParam(required = false) String company,
+            @RequestParam(required = false) String position,
+            WebRequest webRequest) {
+        SalaryHistogram histogram = histogram(company, position);
+        if (EmployeeController.checkNotModified(webRequest, employeeService.getVersion())) {
+            return null;
+        }
+        List<SalaryHistogram.Bucket> buckets = histogram.buckets();
+        long count = 0;
+        for (SalaryHistogram.Bucket bucket : buckets) {
+            count += bucket.count();
+        }
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("count", count);
+        result.put("buckets", buckets);
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * Liczność, średnia, odchylenie standardowe, min i max pensji w każdej grupie ({@code groupBy}:
+     * company, position albo status) oraz {@code total} - połączenie momentów wszystkich grup.
+     */
+    @RateLimited(RateLimitTier.POINT)
+    @GetMapping("/summary")
+    public ResponseEntity<Map<String, Object>> getSummary(@RequestParam(defaultValue = "company") String groupBy,
+                                                          WebRequest webRequest) {
+        String grouping = groupBy.trim().toLowerCase();
+        if (!grouping.equals("company") && !grouping.equals("position") && !grouping.equals("status")) {
+            throw new InvalidDataException("groupBy must be 'company', 'position' or 'status'");
+        }
+        if (EmployeeController.checkNotModified(webRequest, employeeService.getVersion())) {
+            return null;
+        }
+        Map<?, SalaryMoments> groups = switch (grouping) {
+            case "company" -> salaryMomentsIndex.byCompany();
+            case "position" -> salaryMomentsIndex.byPosition();
+            default -> salaryMomentsIndex.byStatus();
+        };
+        SalaryMoments total = SalaryMoments.EMPTY;
+        for (SalaryMoments moments : groups.values()) {
+            total = total.merge(moments);
+        }
+        if (total.getCount() == 0) {
+            throw new EmployeeNotFoundException("No employees");
+        }
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("total", total);
+        result.put("groups", groups);
+        return ResponseEntity.ok(result);
+    }
+
+    private SalaryHistogram histogram(String company, String position) {
+        if (company != null && position != null) {
+            throw new InvalidDataException("Use either company or position, not both");
+        }
+        SalaryHistogram histogram;
+        if (company != null) {
+            histogram = salaryDistributionIndex.company(company);
+            if (histogram == null) {
+                throw new EmployeeNotFoundException("Company " + company + " not found");
+            }
+        } else if (position != null) {
+            Position parsed = EmployeeController.parsePosition(position);
+            histogram = salaryDistributionIndex.position(parsed);
+            if (histogram == null) {
+                throw new EmployeeNotFoundException("No employees with position " + parsed);
+            }
+        } else {
+            histogram = salaryDistributionIndex.all();
+            if (histogram.isEmpty()) {
+                throw new EmployeeNotFoundException("No employees");
+            }
+        }
+        return histogram;
+    }
+
+    // 50 -> "p50", 99.9 -> "p99.9"
+    private static String percentileKey(double percentile) {
+        return percentile == Math.rint(percentile) ? "p" + (long) percentile : "p" + percentile;
+    }
+}
@@ -0,0 +1,93 @@
+package org.example.controller;
+
+import org.example.config.RateLimited;
+import org.example.dto.EmployeeDTO;
+import org.example.enums.RateLimitTier;
+import org.example.exception.InvalidDataException;
+import org.example.model.Employee;
+import org.example.model.SearchHit;
+import org.example.service.AutocompleteIndex;
+import org.example.service.FullTextIndex;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Wyszukiwanie tekstowe po pracownikach - odpowiedzi pochodzą z indeksów, bez przeglądania magazynu.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/employees")
+public class SearchController {
+    static final int MAX_SUGGESTIONS = 50;
+
+    static final int MAX_SEARCH_RESULTS = 100;
+
+    private final AutocompleteIndex autocompleteIndex;
+    private final FullTextIndex fullTextIndex;
+
+    public SearchController(AutocompleteIndex autocompleteIndex, FullTextIndex fullTextIndex) {
+        this.autocompleteIndex = autocompleteIndex;
+        this.fullTextIndex = fullTextIndex;
+    }
+
+    /**
+     * Podpowiedzi dla wpisywanego tekstu: pracownicy (imię, nazwisko, email) i nazwy firm zaczynające się od {@code q}.
+     */
+    @RateLimited(RateLimitTier.POINT)
+    @GetMapping("/autocomplete")
+    public ResponseEntity<Map<String, Object>> autocomplete(@RequestParam String q,
+                                                            @RequestParam(defaultValue = "10") int limit) {
+        if (q.isBlank()) {
+            throw new InvalidDataException("q must not be blank");
+        }
+        if (limit < 1 || limit > MAX_SUGGESTIONS) {
+            throw new InvalidDataException("limit must be between 1 and " + MAX_SUGGESTIONS);
+        }
+        List<EmployeeDTO> employees = new ArrayList<>();
+        for (Employee emp : autocompleteIndex.suggestEmployees(q, limit)) {
+            employees.add(EmployeeController.toDtoWithStatus(emp));
+        }
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("employees", employees);
+        result.put("companies", autocompleteIndex.suggestCompanies(q, limit));
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * Wyszukiwanie pełnotekstowe po imieniu, nazwisku, firmie i emailu, bez rozróżniania wielkości liter
+     * i znaków diakrytycznych ("zielinski" znajduje "Zieliński"). {@code mode=and} (domyślnie) wymaga
+     * wszystkich słów, {@code mode=or} - dowolnego; wyniki od najlepiej dopasowanych.
+     */
+    @RateLimited(RateLimitTier.SCAN)
+    @GetMapping("/search")
+    public ResponseEntity<List<Map<String, Object>>> search(@RequestParam String q,
+                                                            @RequestParam(defaultValue = "and") String mode,
+                                                            @RequestParam(defaultValue = "20") int limit) {
+        if (q.isBlank()) {
+            throw new InvalidDataException("q must not be blank");
+        }
+        if (limit < 1 || limit > MAX_SEARCH_RESULTS) {
+            throw new InvalidDataException("limit must be between 1 and " + MAX_SEARCH_RESULTS);
+        }
+        FullTextIndex.Mode searchMode;
+        try {
+            searchMode = FullTextIndex.Mode.valueOf(mode.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidDataException("mode must be 'and' or 'or'");
+        }
+        List<Map<String, Object>> results = new ArrayList<>();
+        for (SearchHit hit : fullTextIndex.search(q, searchMode, limit)) {
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("score", hit.getScore());
+            result.put("employee", EmployeeController.toDtoWithStatus(hit.getEmployee()));
+            results.add(result);
+        }
+        return ResponseEntity.ok(results);
+    }
+}
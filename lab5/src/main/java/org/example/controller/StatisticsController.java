@@ -1,59 +1,168 @@
 package org.example.controller;
 
+import org.example.config.RateLimited;
 import org.example.dto.CompanyStatisticsDTO;
+import org.example.dto.EmployeeDTO;
+import org.example.enums.RateLimitTier;
 import org.example.exception.EmployeeNotFoundException;
+import org.example.exception.InvalidDataException;
 import org.example.model.CompanyStatistics;
 import org.example.model.Employee;
 import org.example.service.EmployeeService;
+import org.example.service.StatisticsCache;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.http.ResponseEntity;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/api/statistics")
 public class StatisticsController {
     private final EmployeeService employeeService;
+    private final StatisticsCache statisticsCache;
 
-    public StatisticsController(EmployeeService employeeService) {
+    public StatisticsController(EmployeeService employeeService, StatisticsCache statisticsCache) {
         this.employeeService = employeeService;
+        this.statisticsCache = statisticsCache;
     }
 
+    @RateLimited(RateLimitTier.SCAN)
     @GetMapping("/salary/average")
     public ResponseEntity<Map<String, Double>> getAverageSalary(
-            @RequestParam(required = false) String company) {
+            @RequestParam(required = false) String company,
+            WebRequest webRequest) {
+        if (EmployeeController.checkNotModified(webRequest, employeeService.getVersion())) {
+            return null;
+        }
         Map<String, Double> result = new HashMap<>();
+        result.put("averageSalary", averageSalary(employeeService, statisticsCache, company));
+        return ResponseEntity.ok(result);
+    }
+
+    @RateLimited(RateLimitTier.SCAN)
+    @GetMapping("/company/{companyName}")
+    public ResponseEntity<CompanyStatisticsDTO> getCompanyStatistics(
+            @PathVariable String companyName,
+            WebRequest webRequest) {
+        if (EmployeeController.checkNotModified(webRequest, employeeService.getVersion())) {
+            return null;
+        }
+        CompanyStatisticsDTO dto = companyStatistics(employeeService, statisticsCache, companyName);
+
+        if (dto == null) {
+            throw new EmployeeNotFoundException("Company " + companyName + " not found");
+        }
+
+        return ResponseEntity.ok(dto);
+    }
+
+    /**
+     * Najlepiej zarabiający w firmie, czytani z indeksu pensji utrzymywanego przy każdej zmianie - bez skanu,
+     * dlatego budżet POINT, a nie SCAN.
+     */
+    @RateLimited(RateLimitTier.POINT)
+    @GetMapping("/company/{companyName}/top")
+    public ResponseEntity<List<EmployeeDTO>> getCompanyTopEarners(
+            @PathVariable String companyName,
+            @RequestParam(defaultValue = "10") int n,
+            WebRequest webRequest) {
+        if (n < 1 || n > EmployeeController.MAX_PAGE_SIZE) {
+            throw new InvalidDataException("n must be between 1 and " + EmployeeController.MAX_PAGE_SIZE);
+        }
+        if (EmployeeController.checkNotModified(webRequest, employeeService.getVersion())) {
+            return null;
+        }
+        List<Employee> top = employeeService.getTopEarnersByCompany(companyName, n);
+        if (top.isEmpty()) {
+            throw new EmployeeNotFoundException("Company " + companyName + " not found");
+        }
+        return ResponseEntity.ok(EmployeeController.toDtosWithStatus(top));
+    }
+
+    @RateLimited(RateLimitTier.SCAN)
+    @GetMapping("/positions")
+    public ResponseEntity<Map<String, Integer>> getEmployeesByPosition(WebRequest webRequest) {
+        if (EmployeeController.checkNotModified(webRequest, employeeService.getVersion())) {
+            return null;
+        }
+        Map<String, Integer> result = positionCounts(employeeService, statisticsCache);
+        return ResponseEntity.ok(result);
+    }
+
+    @GetMapping("/status")
+    public ResponseEntity<Map<String, Integer>> getEmployeesByStatus() {
+        Map<String, Integer> result = new HashMap<>();
+        result.put("employed", employeeService.getEmployees().length);
+        return ResponseEntity.ok(result);
+    }
+
+    // Wspólne z ReactiveStatisticsController - te same klucze cache dla obu stosów
+
+    static double averageSalary(EmployeeService employeeService, StatisticsCache statisticsCache, String company) {
         if (company != null) {
-            Employee[] employees = employeeService.getEmployeeByCompanyName(company);
-            double avg = 0.0;
-            if (employees.length > 0) {
-                double total = 0.0;
-                for (Employee e : employees) {
-                    if (e != null) {
-                        total += e.getSalary();
-                    }
+            return statisticsCache.get("salary/average?company=" + company.toLowerCase(Locale.ROOT),
+                    Set.of(StatisticsCache.companyTag(company)), () -> computeCompanyAverageSalary(employeeService, company));
+        }
+        return statisticsCache.get("salary/average",
+                Set.of(StatisticsCache.SALARIES), employeeService::getAverageSalary);
+    }
+
+    /**
+     * @return statystyki firmy albo null, jeśli firma nie istnieje
+     */
+    static CompanyStatisticsDTO companyStatistics(EmployeeService employeeService, StatisticsCache statisticsCache,
+                                                  String companyName) {
+        // nazwa firmy bez rozróżniania wielkości liter, jak w indeksach - ABC i abc to jeden wpis
+        return statisticsCache.get("company/" + companyName.toLowerCase(Locale.ROOT),
+                Set.of(StatisticsCache.companyTag(companyName)), () -> computeCompanyStatistics(employeeService, companyName));
+    }
+
+    static Map<String, Integer> positionCounts(EmployeeService employeeService, StatisticsCache statisticsCache) {
+        return statisticsCache.get("positions", Set.of(StatisticsCache.POSITIONS), employeeService::getPositionCounts);
+    }
+
+    private static double computeCompanyAverageSalary(EmployeeService employeeService, String company) {
+        Employee[] employees = employeeService.getEmployeeByCompanyName(company);
+        double avg = 0.0;
+        if (employees.length > 0) {
+            double total = 0.0;
+            for (Employee e : employees) {
+                if (e != null) {
+                    total += e.getSalary();
                 }
-                avg = total / employees.length;
             }
-            result.put("averageSalary", avg);
-        } else {
-            result.put("averageSalary", employeeService.getAverageSalary());
+            avg = total / employees.length;
         }
-        return ResponseEntity.ok(result);
+        return avg;
     }
 
-    @GetMapping("/company/{companyName}")
-    public ResponseEntity<CompanyStatisticsDTO> getCompanyStatistics(
-            @PathVariable String companyName) {
+    private static CompanyStatisticsDTO computeCompanyStatistics(EmployeeService employeeService, String companyName) {
         Map<String, CompanyStatistics> stats = employeeService.getCompanyStatistics();
+        String storedName = companyName;
         CompanyStatistics companyStats = stats.get(companyName);
+        if (companyStats == null) {
+            for (Map.Entry<String, CompanyStatistics> entry : stats.entrySet()) {
+                if (entry.getKey().equalsIgnoreCase(companyName)) {
+                    storedName = entry.getKey();
+                    companyStats = entry.getValue();
+                    break;
+                }
+            }
+        }
 
         if (companyStats == null) {
-            throw new EmployeeNotFoundException("Company " + companyName + " not found");
+            return null;
         }
 
         CompanyStatisticsDTO dto = new CompanyStatisticsDTO();
-        dto.setCompanyName(companyName);
+        // nazwa z magazynu, nie z zapytania - wpis w cache jest wspólny dla wszystkich wariantów wielkości liter
+        dto.setCompanyName(storedName);
         dto.setEmployeeCount(companyStats.getTotalEmployees());
         dto.setAverageSalary(companyStats.getAverageSalary());
         dto.setTopEarnerName(companyStats.getHighestPaidEmployeeName() + " " + companyStats.getHighestPaidEmployeeSurname());
@@ -66,20 +175,6 @@ public class StatisticsController {
             }
         }
         dto.setHighestSalary(maxSalary);
-
-        return ResponseEntity.ok(dto);
-    }
-
-    @GetMapping("/positions")
-    public ResponseEntity<Map<String, Integer>> getEmployeesByPosition() {
-        Map<String, Integer> result = employeeService.getPositionCounts();
-        return ResponseEntity.ok(result);
-    }
-
-    @GetMapping("/status")
-    public ResponseEntity<Map<String, Integer>> getEmployeesByStatus() {
-        Map<String, Integer> result = new HashMap<>();
-        result.put("employed", employeeService.getEmployees().length);
-        return ResponseEntity.ok(result);
+        return dto;
     }
 }
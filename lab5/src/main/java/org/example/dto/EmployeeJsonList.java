@@ -0,0 +1,54 @@
+package org.example.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.example.model.Employee;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Lista pracowników serializowana jako tablica JSON z uwzględnieniem projekcji pól.
+ * Rekordy są zapisywane bezpośrednio z obiektów {@link Employee}, bez tworzenia DTO dla każdego wiersza.
+ */
+@JsonSerialize(using = EmployeeJsonList.Serializer.class)
+public class EmployeeJsonList {
+    private final List<Employee> employees;
+    private final EmployeeProjection projection;
+    private final boolean withStatus;
+
+    public EmployeeJsonList(List<Employee> employees, EmployeeProjection projection, boolean withStatus) {
+        this.employees = employees;
+        this.projection = projection;
+        this.withStatus = withStatus;
+    }
+
+    public List<Employee> getEmployees() {
+        return employees;
+    }
+
+    public EmployeeProjection getProjection() {
+        return projection;
+    }
+
+    public void writeTo(JsonGenerator generator) throws IOException {
+        generator.writeStartArray();
+        for (Employee employee : employees) {
+            projection.write(employee, withStatus, generator);
+        }
+        generator.writeEndArray();
+    }
+
+    public static class Serializer extends StdSerializer<EmployeeJsonList> {
+        public Serializer() {
+            super(EmployeeJsonList.class);
+        }
+
+        @Override
+        public void serialize(EmployeeJsonList value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            value.writeTo(generator);
+        }
+    }
+}
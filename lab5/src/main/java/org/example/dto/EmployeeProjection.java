@@ -0,0 +1,113 @@
+package org.example.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import org.example.exception.InvalidDataException;
+import org.example.model.Employee;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Wybór pól pracownika do zwrócenia (parametr {@code ?fields=email,company}).
+ * Parsowany raz na żądanie; nazwy pól są przygotowane wcześniej, więc zapis
+ * pojedynczego rekordu to tylko przejście po tablicy wybranych pól.
+ */
+public final class EmployeeProjection {
+
+    public enum Field {
+        FIRST_NAME("firstName"),
+        LAST_NAME("lastName"),
+        EMAIL("email"),
+        COMPANY("company"),
+        POSITION("position"),
+        SALARY("salary"),
+        STATUS("status");
+
+        private final SerializedString jsonName;
+
+        Field(String jsonName) {
+            this.jsonName = new SerializedString(jsonName);
+        }
+
+        public String getJsonName() {
+            return jsonName.getValue();
+        }
+    }
+
+    public static final EmployeeProjection ALL = new EmployeeProjection(EnumSet.allOf(Field.class));
+
+    private final Field[] fields;
+
+    private EmployeeProjection(Set<Field> fields) {
+        this.fields = fields.toArray(new Field[0]);
+    }
+
+    /**
+     * @param fields lista nazw pól JSON rozdzielona przecinkami; pusta lub null oznacza wszystkie pola
+     */
+    public static EmployeeProjection parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+        EnumSet<Field> selected = EnumSet.noneOf(Field.class);
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            selected.add(fieldByJsonName(trimmed));
+        }
+        if (selected.isEmpty()) {
+            return ALL;
+        }
+        return selected.size() == Field.values().length ? ALL : new EmployeeProjection(selected);
+    }
+
+    private static Field fieldByJsonName(String name) {
+        for (Field field : Field.values()) {
+            if (field.getJsonName().equalsIgnoreCase(name)) {
+                return field;
+            }
+        }
+        List<String> allowed = new ArrayList<>();
+        for (Field field : Field.values()) {
+            allowed.add(field.getJsonName());
+        }
+        throw new InvalidDataException("Unknown field '" + name + "', allowed: " + allowed);
+    }
+
+    /**
+     * Zapisuje pracownika prosto do generatora - bez pośredniego {@link EmployeeDTO}.
+     *
+     * @param withStatus false - pole status (jeśli wybrane) jest zapisywane jako null
+     */
+    public void write(Employee employee, boolean withStatus, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        for (Field field : fields) {
+            generator.writeFieldName(field.jsonName);
+            switch (field) {
+                case FIRST_NAME -> writeString(generator, employee.getName());
+                case LAST_NAME -> writeString(generator, employee.getSurname());
+                case EMAIL -> writeString(generator, employee.getEmail());
+                case COMPANY -> writeString(generator, employee.getCompanyName());
+                case POSITION -> writeString(generator, employee.getPosition() != null ? employee.getPosition().name() : null);
+                case SALARY -> generator.writeNumber(employee.getSalary());
+                case STATUS -> writeString(generator,
+                        withStatus && employee.getStatus() != null ? employee.getStatus().name() : null);
+            }
+        }
+        generator.writeEndObject();
+    }
+
+    private static void writeString(JsonGenerator generator, String value) throws IOException {
+        if (value != null) {
+            generator.writeString(value);
+        } else {
+            generator.writeNull();
+        }
+    }
+}
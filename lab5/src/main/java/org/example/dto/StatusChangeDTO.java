@@ -0,0 +1,33 @@
+package org.example.dto;
+
+import org.example.enums.EmploymentStatus;
+
+public class StatusChangeDTO {
+    private String email;
+    private EmploymentStatus status;
+
+    public StatusChangeDTO() {
+    }
+
+    public StatusChangeDTO(String email, EmploymentStatus status) {
+        this.email = email;
+        this.status = status;
+    }
+
+    // Gettery i settery
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public EmploymentStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(EmploymentStatus status) {
+        this.status = status;
+    }
+}
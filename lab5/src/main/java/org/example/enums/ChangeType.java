@@ -0,0 +1,11 @@
+package org.example.enums;
+
+public enum ChangeType {
+    CREATED,
+    UPDATED,
+    // zmieniony wyłącznie status zatrudnienia
+    STATUS_CHANGED,
+    DELETED,
+    // cały magazyn podmieniony - subskrybent powinien pobrać listę od nowa
+    RESET
+}
@@ -0,0 +1,8 @@
+package org.example.enums;
+
+public enum RateLimitTier {
+    // pojedynczy rekord / zapis jednego pracownika
+    POINT,
+    // skan całego magazynu: listingi, eksport, statystyki, operacje wsadowe
+    SCAN
+}
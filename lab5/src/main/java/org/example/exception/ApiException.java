@@ -1,7 +1,18 @@
 package org.example.exception;
 
 public class ApiException extends RuntimeException {
+    private final boolean retryable;
+
     public ApiException(String message) {
+        this(message, false);
+    }
+
+    public ApiException(String message, boolean retryable) {
         super(message);
+        this.retryable = retryable;
+    }
+
+    public boolean isRetryable() {
+        return retryable;
     }
 }
@@ -0,0 +1,71 @@
+package org.example.model;
+
+import java.util.List;
+
+/**
+ * Wynik operacji wsadowej - osobny wynik dla każdej pozycji w kolejności wejścia.
+ * Błędne pozycje nie blokują zapisu pozostałych.
+ */
+public class BatchResult {
+    private final List<ItemResult> items;
+
+    public BatchResult(List<ItemResult> items) {
+        this.items = items;
+    }
+
+    public int getSucceededCount() {
+        int count = 0;
+        for (ItemResult item : items) {
+            if (item.isSuccess()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public int getFailedCount() {
+        return items.size() - getSucceededCount();
+    }
+
+    public List<ItemResult> getItems() {
+        return items;
+    }
+
+    public static class ItemResult {
+        private final int index;
+        private final String email;
+        private final boolean success;
+        private final String error;
+
+        private ItemResult(int index, String email, boolean success, String error) {
+            this.index = index;
+            this.email = email;
+            this.success = success;
+            this.error = error;
+        }
+
+        public static ItemResult ok(int index, String email) {
+            return new ItemResult(index, email, true, null);
+        }
+
+        public static ItemResult failed(int index, String email, String error) {
+            return new ItemResult(index, email, false, error);
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public String getEmail() {
+            return email;
+        }
+
+        public boolean isSuccess() {
+            return success;
+        }
+
+        public String getError() {
+            return error;
+        }
+    }
+}
@@ -2,6 +2,9 @@ package org.example.model;
 
 import org.example.enums.EmploymentStatus;
 
+import java.util.Objects;
+import java.util.function.Consumer;
+
 public class Employee {
     private String name;
     private String surname;
@@ -10,6 +13,7 @@ public class Employee {
     private Position position;
     private double salary;
     private EmploymentStatus status;
+    private transient EmployeeChangeListener changeListener;
 
     public Employee(String name, String surname, String email, String companyName, Position position) {
         this.name = name;
@@ -46,7 +50,7 @@ public class Employee {
     }
 
     public void setStatus(EmploymentStatus status) {
-        this.status = status;
+        change(e -> e.status = status);
     }
 
     public String getCompanyName() {
@@ -54,7 +58,7 @@ public class Employee {
     }
 
     public void setCompanyName(String companyName) {
-        this.companyName = companyName;
+        change(e -> e.companyName = companyName);
     }
 
     public String getEmail() {
@@ -62,7 +66,7 @@ public class Employee {
     }
 
     public void setEmail(String email) {
-        this.email = email;
+        change(e -> e.email = email);
     }
 
     public String getSurname() {
@@ -70,7 +74,7 @@ public class Employee {
     }
 
     public void setSurname(String surname) {
-        this.surname = surname;
+        change(e -> e.surname = surname);
     }
 
     public String getName() {
@@ -78,7 +82,7 @@ public class Employee {
     }
 
     public void setName(String name) {
-        this.name = name;
+        change(e -> e.name = name);
     }
 
     public double getSalary() {
@@ -86,7 +90,7 @@ public class Employee {
     }
 
     public void setSalary(double salary) {
-        this.salary = salary;
+        change(e -> e.salary = salary);
     }
 
     public Position getPosition() {
@@ -94,9 +98,51 @@ public class Employee {
     }
 
     public void setPosition(Position position) {
-        this.position = position;
-        if (position != null) {
-            this.salary = position.getBaseSalary();
+        change(e -> {
+            e.position = position;
+            if (position != null) {
+                e.salary = position.getBaseSalary();
+            }
+        });
+    }
+
+    /**
+     * Ustawiany przez {@link org.example.service.EmployeeService} dla pracowników w magazynie,
+     * żeby zmiany robione bezpośrednio na obiekcie (settery) trafiały do indeksów i cache.
+     */
+    public void setChangeListener(EmployeeChangeListener changeListener) {
+        this.changeListener = changeListener;
+    }
+
+    public Employee copy() {
+        Employee copy = new Employee();
+        copy.name = name;
+        copy.surname = surname;
+        copy.email = email;
+        copy.companyName = companyName;
+        copy.position = position;
+        copy.salary = salary;
+        copy.status = status;
+        return copy;
+    }
+
+    public boolean hasSameData(Employee other) {
+        return other != null
+                && Objects.equals(name, other.name)
+                && Objects.equals(surname, other.surname)
+                && Objects.equals(email, other.email)
+                && Objects.equals(companyName, other.companyName)
+                && position == other.position
+                && Double.compare(salary, other.salary) == 0
+                && status == other.status;
+    }
+
+    private void change(Consumer<Employee> mutation) {
+        EmployeeChangeListener listener = changeListener;
+        if (listener == null) {
+            mutation.accept(this);
+        } else {
+            listener.applyChange(this, mutation);
         }
     }
 
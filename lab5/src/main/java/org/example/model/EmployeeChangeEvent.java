@@ -0,0 +1,44 @@
+package org.example.model;
+
+import org.example.enums.ChangeType;
+
+import java.time.LocalDateTime;
+
+/**
+ * Wpis w strumieniu zmian. {@code employee} to kopia stanu po zmianie ({@code null} dla DELETED i RESET).
+ */
+public class EmployeeChangeEvent {
+    private final long sequence;
+    private final ChangeType type;
+    private final String email;
+    private final Employee employee;
+    private final LocalDateTime occurredAt;
+
+    public EmployeeChangeEvent(long sequence, ChangeType type, String email, Employee employee, LocalDateTime occurredAt) {
+        this.sequence = sequence;
+        this.type = type;
+        this.email = email;
+        this.employee = employee;
+        this.occurredAt = occurredAt;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public ChangeType getType() {
+        return type;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public Employee getEmployee() {
+        return employee;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+}
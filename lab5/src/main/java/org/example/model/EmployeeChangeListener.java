@@ -0,0 +1,31 @@
+package org.example.model;
+
+import java.util.function.Consumer;
+
+/**
+ * Powiadomienie o zmianie pracownika w magazynie.
+ * {@code before == null} oznacza dodanie, {@code after == null} usunięcie.
+ */
+public interface EmployeeChangeListener {
+
+    void onEmployeeChanged(Employee before, Employee after);
+
+    /**
+     * Cała zawartość magazynu została podmieniona (np. {@code setEmployees}).
+     */
+    default void onEmployeesReset() {
+    }
+
+    /**
+     * Zmiana pracownika setterem: kopia stanu sprzed zmiany, zmiana i powiadomienie.
+     * {@code mutation} dostaje obiekt do zmiany, więc można ją najpierw sprawdzić na kopii.
+     * Magazyn nadpisuje tę metodę, żeby całość szła pod jego blokadą.
+     */
+    default void applyChange(Employee employee, Consumer<Employee> mutation) {
+        Employee before = employee.copy();
+        mutation.accept(employee);
+        if (!employee.hasSameData(before)) {
+            onEmployeeChanged(before, employee);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package org.example.model;
+
+import java.util.List;
+
+/**
+ * Strona wyników z indeksu. {@code nextSlot} to pozycja, od której zaczyna się następna strona
+ * ({@code -1}, jeśli to ostatnia strona). Pozycje nie są używane ponownie, więc kursor przeżywa
+ * usuwanie pracowników i zagęszczanie indeksu.
+ */
+public class EmployeePage {
+    private final List<Employee> employees;
+    private final long nextSlot;
+
+    public EmployeePage(List<Employee> employees, long nextSlot) {
+        this.employees = employees;
+        this.nextSlot = nextSlot;
+    }
+
+    public List<Employee> getEmployees() {
+        return employees;
+    }
+
+    public long getNextSlot() {
+        return nextSlot;
+    }
+
+    public boolean hasNext() {
+        return nextSlot >= 0;
+    }
+}
@@ -0,0 +1,62 @@
+package org.example.model;
+
+import org.example.enums.EmploymentStatus;
+
+/**
+ * Zestaw filtrów łączonych przez AND. Pole {@code null} oznacza brak filtra; zakres pensji jest domknięty.
+ */
+public class EmployeeQuery {
+    private final String email;
+    private final String companyName;
+    private final Position position;
+    private final EmploymentStatus status;
+    private final Double minSalary;
+    private final Double maxSalary;
+
+    public EmployeeQuery(String email, String companyName, Position position, EmploymentStatus status,
+                         Double minSalary, Double maxSalary) {
+        this.email = email;
+        this.companyName = companyName;
+        this.position = position;
+        this.status = status;
+        this.minSalary = minSalary;
+        this.maxSalary = maxSalary;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getCompanyName() {
+        return companyName;
+    }
+
+    public Position getPosition() {
+        return position;
+    }
+
+    public EmploymentStatus getStatus() {
+        return status;
+    }
+
+    public Double getMinSalary() {
+        return minSalary;
+    }
+
+    public Double getMaxSalary() {
+        return maxSalary;
+    }
+
+    public boolean hasSalaryRange() {
+        return minSalary != null || maxSalary != null;
+    }
+
+    public boolean matches(Employee employee) {
+        return (email == null || email.equalsIgnoreCase(employee.getEmail()))
+                && (companyName == null || companyName.equalsIgnoreCase(employee.getCompanyName()))
+                && (position == null || position == employee.getPosition())
+                && (status == null || status == employee.getStatus())
+                && (minSalary == null || employee.getSalary() >= minSalary)
+                && (maxSalary == null || employee.getSalary() <= maxSalary);
+    }
+}
@@ -0,0 +1,31 @@
+package org.example.model;
+
+import java.util.List;
+
+public class EmployeeQueryResult {
+    private final EmployeePage page;
+    private final QueryPlan plan;
+    private final int rowsExamined;
+
+    public EmployeeQueryResult(EmployeePage page, QueryPlan plan, int rowsExamined) {
+        this.page = page;
+        this.plan = plan;
+        this.rowsExamined = rowsExamined;
+    }
+
+    public List<Employee> getEmployees() {
+        return page.getEmployees();
+    }
+
+    public EmployeePage getPage() {
+        return page;
+    }
+
+    public QueryPlan getPlan() {
+        return plan;
+    }
+
+    public int getRowsExamined() {
+        return rowsExamined;
+    }
+}
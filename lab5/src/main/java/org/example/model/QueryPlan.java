@@ -0,0 +1,45 @@
+package org.example.model;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Opis wykonania zapytania (explain): indeks wejściowy, rozważone indeksy z liczbą wpisów,
+ * indeksy użyte do przecięcia oraz filtry sprawdzane na każdym kandydacie.
+ */
+public class QueryPlan {
+    private final String access;
+    private final Map<String, Integer> consideredIndexes;
+    private final List<String> intersected;
+    private final List<String> residualFilters;
+    private final int candidateRows;
+
+    public QueryPlan(String access, Map<String, Integer> consideredIndexes, List<String> intersected,
+                     List<String> residualFilters, int candidateRows) {
+        this.access = access;
+        this.consideredIndexes = consideredIndexes;
+        this.intersected = intersected;
+        this.residualFilters = residualFilters;
+        this.candidateRows = candidateRows;
+    }
+
+    public String getAccess() {
+        return access;
+    }
+
+    public Map<String, Integer> getConsideredIndexes() {
+        return consideredIndexes;
+    }
+
+    public List<String> getIntersected() {
+        return intersected;
+    }
+
+    public List<String> getResidualFilters() {
+        return residualFilters;
+    }
+
+    public int getCandidateRows() {
+        return candidateRows;
+    }
+}
@@ -0,0 +1,87 @@
+package org.example.model;
+
+/**
+ * Niezmienne momenty pensji grupy: liczność, średnia i M2 (suma kwadratów odchyleń) liczone metodą Welforda.
+ * Pracownika można dodać i usunąć w O(1), a dwie rozłączne grupy połączyć w O(1) (wzór Chana),
+ * np. statystyki wszystkich firm z momentów poszczególnych firm.
+ * Minimum i maksimum nie dają się odwrócić przy usuwaniu - podaje je ten, kto utrzymuje grupę.
+ */
+public final class SalaryMoments {
+    public static final SalaryMoments EMPTY = new SalaryMoments(0, 0.0, 0.0, Double.NaN, Double.NaN);
+
+    private final long count;
+    private final double mean;
+    private final double m2;
+    private final double min;
+    private final double max;
+
+    private SalaryMoments(long count, double mean, double m2, double min, double max) {
+        this.count = count;
+        this.mean = mean;
+        this.m2 = m2;
+        this.min = min;
+        this.max = max;
+    }
+
+    public SalaryMoments add(double salary) {
+        long n = count + 1;
+        double delta = salary - mean;
+        double newMean = mean + delta / n;
+        return new SalaryMoments(n, newMean, m2 + delta * (salary - newMean),
+                count == 0 ? salary : Math.min(min, salary), count == 0 ? salary : Math.max(max, salary));
+    }
+
+    /**
+     * Odwrotność {@link #add(double)}. Min/max po usunięciu muszą przyjść z zewnątrz.
+     */
+    public SalaryMoments remove(double salary, double newMin, double newMax) {
+        if (count <= 1) {
+            return EMPTY;
+        }
+        long n = count - 1;
+        double newMean = (mean * count - salary) / n;
+        double newM2 = m2 - (salary - mean) * (salary - newMean);
+        return new SalaryMoments(n, newMean, Math.max(0.0, newM2), newMin, newMax);
+    }
+
+    public SalaryMoments merge(SalaryMoments other) {
+        if (other.count == 0) {
+            return this;
+        }
+        if (count == 0) {
+            return other;
+        }
+        long n = count + other.count;
+        double delta = other.mean - mean;
+        double newMean = mean + delta * other.count / n;
+        double newM2 = m2 + other.m2 + delta * delta * ((double) count * other.count / n);
+        return new SalaryMoments(n, newMean, newM2, Math.min(min, other.min), Math.max(max, other.max));
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMean() {
+        return mean;
+    }
+
+    /**
+     * Wariancja populacji (M2 / n) - grupa to wszyscy jej pracownicy, nie próbka.
+     */
+    public double getVariance() {
+        return count == 0 ? 0.0 : m2 / count;
+    }
+
+    public double getStandardDeviation() {
+        return Math.sqrt(getVariance());
+    }
+
+    public double getMin() {
+        return min;
+    }
+
+    public double getMax() {
+        return max;
+    }
+}
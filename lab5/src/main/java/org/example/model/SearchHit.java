@@ -0,0 +1,19 @@
+package org.example.model;
+
+public class SearchHit {
+    private final Employee employee;
+    private final double score;
+
+    public SearchHit(Employee employee, double score) {
+        this.employee = employee;
+        this.score = score;
+    }
+
+    public Employee getEmployee() {
+        return employee;
+    }
+
+    public double getScore() {
+        return score;
+    }
+}
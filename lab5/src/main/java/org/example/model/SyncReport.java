@@ -0,0 +1,76 @@
+package org.example.model;
+
+import java.time.LocalDateTime;
+
+public class SyncReport {
+    private final LocalDateTime startedAt;
+    private final long durationMs;
+    private final int addedCount;
+    private final int updatedCount;
+    private final int removedCount;
+    private final int unchangedCount;
+    // pracownicy z API o emailu już zajętym przez dane spoza API
+    private final int skippedCount;
+    private final String error;
+
+    public SyncReport(LocalDateTime startedAt, long durationMs, int addedCount, int updatedCount, int removedCount, int unchangedCount, int skippedCount, String error) {
+        this.startedAt = startedAt;
+        this.durationMs = durationMs;
+        this.addedCount = addedCount;
+        this.updatedCount = updatedCount;
+        this.removedCount = removedCount;
+        this.unchangedCount = unchangedCount;
+        this.skippedCount = skippedCount;
+        this.error = error;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public long getDurationMs() {
+        return durationMs;
+    }
+
+    public int getAddedCount() {
+        return addedCount;
+    }
+
+    public int getUpdatedCount() {
+        return updatedCount;
+    }
+
+    public int getRemovedCount() {
+        return removedCount;
+    }
+
+    public int getUnchangedCount() {
+        return unchangedCount;
+    }
+
+    public int getSkippedCount() {
+        return skippedCount;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public boolean isSuccessful() {
+        return error == null;
+    }
+
+    @Override
+    public String toString() {
+        return "SyncReport{" +
+                "startedAt=" + startedAt +
+                ", durationMs=" + durationMs +
+                ", added=" + addedCount +
+                ", updated=" + updatedCount +
+                ", removed=" + removedCount +
+                ", unchanged=" + unchangedCount +
+                ", skipped=" + skippedCount +
+                (error != null ? ", error='" + error + '\'' : "") +
+                '}';
+    }
+}
@@ -9,11 +9,18 @@ import java.net.http.*;
 import com.google.gson.*;
 import org.example.model.Employee;
 import org.example.model.Position;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
 
 
 import java.io.IOException;
@@ -23,17 +30,78 @@ public class ApiService {
     private final HttpClient httpClient;
     private final Gson gson;
     private final String apiUrl;
+    private final Duration requestTimeout;
+    private final int maxAttempts;
+    private final long initialBackoffMs;
+    private final long maxBackoffMs;
+    private final CircuitBreaker circuitBreaker;
 
-    public ApiService(HttpClient httpClient, Gson gson, @Value("${app.api.url}") String apiUrl) {
+    private final AtomicLong successfulCalls = new AtomicLong();
+    private final AtomicLong failedCalls = new AtomicLong();
+    private final AtomicLong retries = new AtomicLong();
+
+    public ApiService(HttpClient httpClient, Gson gson, String apiUrl) {
+        this(httpClient, gson, apiUrl, 5000, 3, 200, 2000, 5, 30000);
+    }
+
+    @Autowired
+    public ApiService(HttpClient httpClient,
+                      Gson gson,
+                      @Value("${app.api.url}") String apiUrl,
+                      @Value("${app.api.timeout-ms:5000}") long timeoutMs,
+                      @Value("${app.api.retry.max-attempts:3}") int maxAttempts,
+                      @Value("${app.api.retry.initial-backoff-ms:200}") long initialBackoffMs,
+                      @Value("${app.api.retry.max-backoff-ms:2000}") long maxBackoffMs,
+                      @Value("${app.api.circuit-breaker.failure-threshold:5}") int failureThreshold,
+                      @Value("${app.api.circuit-breaker.open-ms:30000}") long openDurationMs) {
+        if (maxAttempts <= 0) {
+            throw new IllegalArgumentException("maxAttempts must be positive");
+        }
         this.httpClient = httpClient;
         this.gson = gson;
         this.apiUrl = apiUrl;
+        this.requestTimeout = Duration.ofMillis(timeoutMs);
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMs = initialBackoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+        this.circuitBreaker = new CircuitBreaker(failureThreshold, openDurationMs);
     }
 
     public List<Employee> fetchEmployeesFromApi() throws ApiException {
+        if (!circuitBreaker.allowRequest()) {
+            failedCalls.incrementAndGet();
+            throw new ApiException("Circuit breaker is open, skipping call to " + apiUrl);
+        }
+
+        ApiException lastError = null;
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            try {
+                List<Employee> employees = fetchOnce();
+                circuitBreaker.recordSuccess();
+                successfulCalls.incrementAndGet();
+                return employees;
+            } catch (ApiException e) {
+                lastError = e;
+                if (!e.isRetryable() || attempt == maxAttempts) {
+                    break;
+                }
+                retries.incrementAndGet();
+                if (!sleepBeforeRetry(attempt)) {
+                    lastError = new ApiException("Interrupted while waiting to retry: " + e.getMessage());
+                    break;
+                }
+            }
+        }
+        circuitBreaker.recordFailure();
+        failedCalls.incrementAndGet();
+        throw lastError;
+    }
+
+    private List<Employee> fetchOnce() {
         try {
             HttpRequest request = HttpRequest.newBuilder()
                     .uri(URI.create(apiUrl))
+                    .timeout(requestTimeout)
                     .GET()
                     .build();
 
@@ -58,12 +126,50 @@ public class ApiService {
                 return employees;
             } else {
                 System.out.println("HTTP error: " + response.statusCode());
-                throw new ApiException("HTTP error: " + response.statusCode());
+                throw new ApiException("HTTP error: " + response.statusCode(), isRetryableStatus(response.statusCode()));
             }
-        } catch (IOException | InterruptedException e) {
+        } catch (IOException e) {
+            throw new ApiException("Error " + e.getMessage(), true);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
             throw new ApiException("Error " + e.getMessage());
         } catch (JsonSyntaxException e) {
             throw new ApiException("Error while parsing JSON: " + e.getMessage());
+        } catch (RejectedExecutionException e) {
+            // executor klienta HTTP przeciążony - chwilowe, więc można ponowić
+            throw new ApiException("HTTP client executor saturated: " + e.getMessage(), true);
         }
     }
+
+    private boolean isRetryableStatus(int statusCode) {
+        return statusCode == 429 || statusCode >= 500;
+    }
+
+    private boolean sleepBeforeRetry(int attempt) {
+        long cap = Math.min(maxBackoffMs, initialBackoffMs << Math.min(attempt - 1, 20));
+        // "equal jitter": połowa opóźnienia stała, połowa losowa
+        long delay = cap / 2 + ThreadLocalRandom.current().nextLong(cap / 2 + 1);
+        try {
+            Thread.sleep(delay);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    public CircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("circuitState", circuitBreaker.getState().name());
+        metrics.put("consecutiveFailures", circuitBreaker.getConsecutiveFailures());
+        metrics.put("rejectedByCircuit", circuitBreaker.getRejectedCalls());
+        metrics.put("successfulCalls", successfulCalls.get());
+        metrics.put("failedCalls", failedCalls.get());
+        metrics.put("retries", retries.get());
+        return metrics;
+    }
 }
@@ -0,0 +1,147 @@
+package org.example.service;
+
+import org.example.exception.ApiException;
+import org.example.model.Employee;
+import org.example.model.SyncReport;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Okresowo pobiera pracowników z API i scala je ze stanem {@link EmployeeService}.
+ * Zmiany (nowi, zmienieni, usunięci - po emailu) są aplikowane jedną paczką.
+ * Synchronizacja zmienia i usuwa tylko pracowników, których sama dodała - pracownicy z CSV/XML
+ * o tym samym emailu są pomijani.
+ */
+@Service
+public class ApiSyncService {
+    private final ApiService apiService;
+    private final EmployeeService employeeService;
+    private final boolean enabled;
+
+    // Emaile pracowników dodanych przez synchronizację (małymi literami)
+    private Set<String> syncedEmails = new HashSet<>();
+    private volatile SyncReport lastReport;
+    private final AtomicLong totalRuns = new AtomicLong();
+    private final AtomicLong failedRuns = new AtomicLong();
+
+    public ApiSyncService(ApiService apiService,
+                          EmployeeService employeeService,
+                          @Value("${app.api.sync.enabled:true}") boolean enabled) {
+        this.apiService = apiService;
+        this.employeeService = employeeService;
+        this.enabled = enabled;
+    }
+
+    @Scheduled(fixedDelayString = "${app.api.sync.interval-ms:300000}",
+            initialDelayString = "${app.api.sync.interval-ms:300000}")
+    public void scheduledSync() {
+        if (!enabled) {
+            return;
+        }
+        SyncReport report = synchronize();
+        System.out.println("API sync finished: " + report);
+    }
+
+    public synchronized SyncReport synchronize() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        long start = System.nanoTime();
+        totalRuns.incrementAndGet();
+
+        List<Employee> fetched;
+        try {
+            fetched = apiService.fetchEmployeesFromApi();
+        } catch (ApiException e) {
+            failedRuns.incrementAndGet();
+            lastReport = new SyncReport(startedAt, elapsedMs(start), 0, 0, 0, 0, 0, e.getMessage());
+            return lastReport;
+        }
+
+        Map<String, Employee> incoming = new LinkedHashMap<>();
+        for (Employee e : fetched) {
+            if (e != null && e.getEmail() != null && !e.getEmail().isEmpty()) {
+                incoming.put(e.getEmail().toLowerCase(), e);
+            }
+        }
+
+        Map<String, Employee> current = new HashMap<>();
+        for (Employee e : employeeService.getEmployees()) {
+            if (e != null && e.getEmail() != null) {
+                current.put(e.getEmail().toLowerCase(), e);
+            }
+        }
+
+        List<Employee> added = new ArrayList<>();
+        List<Employee> updated = new ArrayList<>();
+        List<String> removed = new ArrayList<>();
+        Set<String> owned = new HashSet<>();
+        int unchanged = 0;
+        int skipped = 0;
+
+        for (Map.Entry<String, Employee> entry : incoming.entrySet()) {
+            Employee existing = current.get(entry.getKey());
+            Employee candidate = entry.getValue();
+            if (existing == null) {
+                added.add(candidate);
+            } else if (!syncedEmails.contains(entry.getKey())) {
+                // pracownik spoza API (np. z importu) - nie nadpisujemy go
+                skipped++;
+            } else if (differs(existing, candidate)) {
+                candidate.setStatus(existing.getStatus());
+                updated.add(candidate);
+                owned.add(entry.getKey());
+            } else {
+                unchanged++;
+                owned.add(entry.getKey());
+            }
+        }
+        for (String email : syncedEmails) {
+            if (!incoming.containsKey(email) && current.containsKey(email)) {
+                removed.add(email);
+            }
+        }
+
+        int addedCount = 0;
+        if (!added.isEmpty() || !updated.isEmpty() || !removed.isEmpty()) {
+            // snapshot powyżej jest brany bez blokady serwisu - własnością synchronizacji stają się
+            // tylko faktycznie dodani, a nie pracownicy dodani ręcznie w międzyczasie
+            Set<String> applied = employeeService.applyChanges(added, updated, removed);
+            owned.addAll(applied);
+            addedCount = applied.size();
+            skipped += added.size() - addedCount;
+        }
+        syncedEmails = owned;
+
+        lastReport = new SyncReport(startedAt, elapsedMs(start), addedCount, updated.size(), removed.size(), unchanged, skipped, null);
+        return lastReport;
+    }
+
+    private boolean differs(Employee existing, Employee candidate) {
+        return !Objects.equals(existing.getName(), candidate.getName())
+                || !Objects.equals(existing.getSurname(), candidate.getSurname())
+                || !Objects.equals(existing.getCompanyName(), candidate.getCompanyName())
+                || existing.getPosition() != candidate.getPosition()
+                || Double.compare(existing.getSalary(), candidate.getSalary()) != 0;
+    }
+
+    private long elapsedMs(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    public SyncReport getLastReport() {
+        return lastReport;
+    }
+
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("enabled", enabled);
+        metrics.put("totalRuns", totalRuns.get());
+        metrics.put("failedRuns", failedRuns.get());
+        metrics.put("lastRun", lastReport);
+        return metrics;
+    }
+}
@@ -0,0 +1,172 @@
+package org.example.service;
+
+import org.example.model.Employee;
+import org.example.model.EmployeeChangeListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Indeks prefiksowy do podpowiedzi (type-ahead). Klucze to znormalizowane słowa imienia, nazwiska
+ * i części lokalnej emaila (oraz całe wartości wielowyrazowe) z doklejonym emailem - wyszukanie prefiksu
+ * to jeden zakres w posortowanej mapie, czyli O(log N + k). Firmy są indeksowane osobno, bez powtórzeń.
+ */
+@Service
+public class AutocompleteIndex implements EmployeeChangeListener {
+    // oddziela słowo od emaila w kluczu; mniejszy od każdego znaku, który może wystąpić w słowie
+    private static final char SEPARATOR = '\u0000';
+    private static final char PREFIX_END = '\uffff';
+
+    private final EmployeeService employeeService;
+    private final ConcurrentNavigableMap<String, Employee> employeeTerms = new ConcurrentSkipListMap<>();
+    private final ConcurrentNavigableMap<String, CompanyEntry> companies = new ConcurrentSkipListMap<>();
+
+    public AutocompleteIndex(EmployeeService employeeService) {
+        this.employeeService = employeeService;
+        employeeService.addIndexListener(this);
+    }
+
+    @Override
+    public void onEmployeeChanged(Employee before, Employee after) {
+        Set<String> beforeKeys = before != null ? termKeys(before) : Collections.emptySet();
+        Set<String> afterKeys = after != null ? termKeys(after) : Collections.emptySet();
+        for (String key : beforeKeys) {
+            if (!afterKeys.contains(key)) {
+                employeeTerms.remove(key);
+            }
+        }
+        for (String key : afterKeys) {
+            employeeTerms.put(key, after);
+        }
+        if (before != null) {
+            removeCompany(before.getCompanyName());
+        }
+        if (after != null) {
+            addCompany(after.getCompanyName());
+        }
+    }
+
+    @Override
+    public void onEmployeesReset() {
+        employeeTerms.clear();
+        companies.clear();
+        for (Employee e : employeeService.getEmployees()) {
+            if (e != null) {
+                onEmployeeChanged(null, e);
+            }
+        }
+    }
+
+    /**
+     * Do {@code limit} pracowników, których imię, nazwisko lub część lokalna emaila zaczyna się od {@code prefix}
+     * (bez rozróżniania wielkości liter i znaków diakrytycznych), w kolejności alfabetycznej dopasowanego słowa.
+     */
+    public List<Employee> suggestEmployees(String prefix, int limit) {
+        String normalized = TextNormalizer.normalize(prefix);
+        if (normalized.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Employee> result = new ArrayList<>(Math.min(limit, 64));
+        // ten sam pracownik może pasować kilkoma słowami
+        Set<Employee> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Employee e : employeeTerms.subMap(normalized, true, normalized + PREFIX_END, false).values()) {
+            if (seen.add(e)) {
+                result.add(e);
+                if (result.size() == limit) {
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Do {@code limit} nazw firm (bez powtórzeń), których nazwa lub jedno z jej słów zaczyna się od {@code prefix}.
+     */
+    public List<String> suggestCompanies(String prefix, int limit) {
+        String normalized = TextNormalizer.normalize(prefix);
+        if (normalized.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<String> result = new ArrayList<>(Math.min(limit, 64));
+        Set<String> seen = new HashSet<>();
+        for (CompanyEntry entry : companies.subMap(normalized, true, normalized + PREFIX_END, false).values()) {
+            if (seen.add(entry.name)) {
+                result.add(entry.name);
+                if (result.size() == limit) {
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    private static Set<String> termKeys(Employee employee) {
+        if (employee.getEmail() == null) {
+            return Collections.emptySet();
+        }
+        String email = employee.getEmail().toLowerCase();
+        String suffix = SEPARATOR + email;
+        Set<String> keys = new HashSet<>();
+        int at = email.indexOf('@');
+        String localPart = at >= 0 ? email.substring(0, at) : email;
+        for (String value : new String[]{employee.getName(), employee.getSurname(), localPart}) {
+            for (String term : terms(value)) {
+                keys.add(term + suffix);
+            }
+        }
+        // część lokalna także w całości, z kropkami ("jan.k")
+        keys.add(TextNormalizer.normalize(localPart) + suffix);
+        return keys;
+    }
+
+    // słowa wartości oraz cała wartość, jeśli ma kilka słów ("anna maria" -> anna, maria, "anna maria")
+    private static List<String> terms(String value) {
+        List<String> tokens = TextNormalizer.tokens(value);
+        if (tokens.size() > 1) {
+            tokens.add(String.join(" ", tokens));
+        }
+        return tokens;
+    }
+
+    private void addCompany(String companyName) {
+        if (companyName == null) {
+            return;
+        }
+        for (String term : terms(companyName)) {
+            companies.computeIfAbsent(term + SEPARATOR + TextNormalizer.normalize(companyName),
+                    k -> new CompanyEntry(companyName)).employees.incrementAndGet();
+        }
+    }
+
+    private void removeCompany(String companyName) {
+        if (companyName == null) {
+            return;
+        }
+        for (String term : terms(companyName)) {
+            String key = term + SEPARATOR + TextNormalizer.normalize(companyName);
+            CompanyEntry entry = companies.get(key);
+            if (entry != null && entry.employees.decrementAndGet() <= 0) {
+                companies.remove(key);
+            }
+        }
+    }
+
+    private static class CompanyEntry {
+        private final String name;
+        private final AtomicInteger employees = new AtomicInteger();
+
+        CompanyEntry(String name) {
+            this.name = name;
+        }
+    }
+}
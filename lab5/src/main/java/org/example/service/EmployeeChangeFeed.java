@@ -0,0 +1,173 @@
+package org.example.service;
+
+import org.example.enums.ChangeType;
+import org.example.model.Employee;
+import org.example.model.EmployeeChangeEvent;
+import org.example.model.EmployeeChangeListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Strumień zmian magazynu w buforze cyklicznym o stałej pojemności.
+ * Zapis (pod blokadą {@link EmployeeService}) tylko wstawia zdarzenie i budzi czekających;
+ * odczyt nie blokuje zapisu - subskrybent, którego pozycja została już nadpisana, dostaje resync.
+ */
+@Service
+public class EmployeeChangeFeed implements EmployeeChangeListener {
+    private final int capacity;
+    private final AtomicReferenceArray<EmployeeChangeEvent> ring;
+    private volatile long lastSequence;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition appended = lock.newCondition();
+    private final LongAdder resyncs = new LongAdder();
+
+    public EmployeeChangeFeed(EmployeeService employeeService,
+                              @Value("${app.change-feed.capacity:4096}") int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.ring = new AtomicReferenceArray<>(capacity);
+        employeeService.addChangeListener(this);
+    }
+
+    @Override
+    public void onEmployeeChanged(Employee before, Employee after) {
+        ChangeType type;
+        if (before == null) {
+            type = ChangeType.CREATED;
+        } else if (after == null) {
+            type = ChangeType.DELETED;
+        } else {
+            type = isStatusChangeOnly(before, after) ? ChangeType.STATUS_CHANGED : ChangeType.UPDATED;
+        }
+        Employee current = after != null ? after : before;
+        append(type, current.getEmail(), after != null ? after.copy() : null);
+    }
+
+    @Override
+    public void onEmployeesReset() {
+        append(ChangeType.RESET, null, null);
+    }
+
+    private static boolean isStatusChangeOnly(Employee before, Employee after) {
+        if (before.getStatus() == after.getStatus()) {
+            return false;
+        }
+        Employee probe = before.copy();
+        probe.setStatus(after.getStatus());
+        return probe.hasSameData(after);
+    }
+
+    private void append(ChangeType type, String email, Employee snapshot) {
+        lock.lock();
+        try {
+            long sequence = lastSequence + 1;
+            ring.set(slot(sequence), new EmployeeChangeEvent(sequence, type, email, snapshot, LocalDateTime.now()));
+            lastSequence = sequence;
+            appended.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int slot(long sequence) {
+        return (int) (sequence % capacity);
+    }
+
+    public long getLastSequence() {
+        return lastSequence;
+    }
+
+    /**
+     * Zdarzenia o numerach większych niż {@code afterSequence}, najwyżej {@code maxEvents}.
+     * Jeśli część z nich została już nadpisana (lub numer pochodzi sprzed restartu), zwraca resync.
+     */
+    public Batch readAfter(long afterSequence, int maxEvents) {
+        long last = lastSequence;
+        if (afterSequence < 0 || afterSequence > last || last - afterSequence > capacity) {
+            return resync(last);
+        }
+        int count = (int) Math.min(maxEvents, last - afterSequence);
+        List<EmployeeChangeEvent> events = new ArrayList<>(count);
+        for (long sequence = afterSequence + 1; sequence <= afterSequence + count; sequence++) {
+            EmployeeChangeEvent event = ring.get(slot(sequence));
+            if (event == null || event.getSequence() != sequence) {
+                // zapis wyprzedził odczyt o cały bufor
+                return resync(lastSequence);
+            }
+            events.add(event);
+        }
+        return new Batch(events, false, last);
+    }
+
+    /**
+     * Jak {@link #readAfter}, ale czeka do {@code timeoutMillis} na nowe zdarzenia; po upływie czasu zwraca pustą partię.
+     */
+    public Batch awaitAfter(long afterSequence, int maxEvents, long timeoutMillis) throws InterruptedException {
+        if (lastSequence == afterSequence) {
+            long remaining = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+            lock.lock();
+            try {
+                while (lastSequence == afterSequence && remaining > 0) {
+                    remaining = appended.awaitNanos(remaining);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        return readAfter(afterSequence, maxEvents);
+    }
+
+    private Batch resync(long last) {
+        resyncs.increment();
+        return new Batch(Collections.emptyList(), true, last);
+    }
+
+    public Map<String, Object> getMetrics() {
+        long last = lastSequence;
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("lastSequence", last);
+        metrics.put("oldestSequence", Math.max(1, last - capacity + 1));
+        metrics.put("capacity", capacity);
+        metrics.put("resyncs", resyncs.sum());
+        return metrics;
+    }
+
+    public static class Batch {
+        private final List<EmployeeChangeEvent> events;
+        private final boolean resync;
+        private final long lastSequence;
+
+        Batch(List<EmployeeChangeEvent> events, boolean resync, long lastSequence) {
+            this.events = events;
+            this.resync = resync;
+            this.lastSequence = lastSequence;
+        }
+
+        public List<EmployeeChangeEvent> getEvents() {
+            return events;
+        }
+
+        // subskrybent musi pobrać pełny stan i kontynuować od lastSequence
+        public boolean isResync() {
+            return resync;
+        }
+
+        public long getLastSequence() {
+            return lastSequence;
+        }
+    }
+}
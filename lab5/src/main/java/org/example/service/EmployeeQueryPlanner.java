@@ -0,0 +1,189 @@
+package org.example.service;
+
+import org.example.model.Employee;
+import org.example.model.EmployeePage;
+import org.example.model.EmployeeQuery;
+import org.example.model.EmployeeQueryResult;
+import org.example.model.QueryPlan;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+
+/**
+ * Wybiera sposób wykonania {@link EmployeeQuery}: email - bezpośrednie wyszukanie jednego rekordu;
+ * status, stanowisko, firma - mapy bitowe z {@link EmployeeSlotIndex}, zaczynając od najmniejszej
+ * i przecinając z pozostałymi; zakres pensji - indeks pensji, jeśli obejmuje mniej rekordów niż
+ * najmniejsza mapa; pełny skan tylko, gdy żaden filtr nie ma indeksu.
+ * Pozostałe filtry są sprawdzane na każdym kandydacie. Wyniki zawsze w kolejności slotów;
+ * stronicowanie po pozycjach z {@link EmployeeSlotIndex}.
+ */
+class EmployeeQueryPlanner {
+    private final EmployeeSlotIndex slotIndex;
+    private final NavigableMap<EmployeeService.SalaryKey, Employee> employeesBySalary;
+
+    EmployeeQueryPlanner(EmployeeSlotIndex slotIndex, NavigableMap<EmployeeService.SalaryKey, Employee> employeesBySalary) {
+        this.slotIndex = slotIndex;
+        this.employeesBySalary = employeesBySalary;
+    }
+
+    /**
+     * @param emailMatch pracownik znaleziony w indeksie emaili (tylko gdy zapytanie filtruje po emailu)
+     */
+    EmployeeQueryResult execute(EmployeeQuery query, Employee emailMatch, long fromPosition, int limit) {
+        return slotIndex.read(() -> query.getEmail() != null
+                ? byEmail(query, emailMatch, fromPosition)
+                : bySlots(query, slotIndex.firstSlotAt(fromPosition), limit));
+    }
+
+    private EmployeeQueryResult byEmail(EmployeeQuery query, Employee emailMatch, long fromPosition) {
+        List<String> residual = residualFilters(query, true);
+        Integer slot = emailMatch != null ? slotIndex.slotOf(emailMatch) : null;
+        Map<String, Integer> considered = new LinkedHashMap<>();
+        considered.put("email", slot != null ? 1 : 0);
+        QueryPlan plan = new QueryPlan("email", considered, List.of(), residual, slot != null ? 1 : 0);
+
+        List<Employee> employees = new ArrayList<>(1);
+        int examined = 0;
+        if (slot != null && slotIndex.positionAt(slot) >= fromPosition) {
+            examined = 1;
+            if (query.matches(emailMatch)) {
+                employees.add(emailMatch);
+            }
+        }
+        return new EmployeeQueryResult(new EmployeePage(employees, -1), plan, examined);
+    }
+
+    private EmployeeQueryResult bySlots(EmployeeQuery query, int fromSlot, int limit) {
+        List<IndexChoice> indexes = new ArrayList<>(3);
+        if (query.getStatus() != null) {
+            indexes.add(new IndexChoice("status", slotIndex.statusSlots(query.getStatus())));
+        }
+        if (query.getPosition() != null) {
+            indexes.add(new IndexChoice("position", slotIndex.positionSlots(query.getPosition())));
+        }
+        if (query.getCompanyName() != null) {
+            indexes.add(new IndexChoice("company", slotIndex.companySlots(query.getCompanyName())));
+        }
+        indexes.sort(Comparator.comparingInt(index -> index.cardinality));
+        boolean salaryIndexed = false;
+        if (query.hasSalaryRange()) {
+            // zakres liczony najwyżej do rozmiaru najmniejszej mapy - dalej i tak nie byłby najlepszy
+            int bound = indexes.isEmpty() ? slotIndex.allSlots().cardinality() : indexes.get(0).cardinality;
+            BitSet salarySlots = salarySlots(query, bound);
+            if (salarySlots != null) {
+                indexes.add(0, new IndexChoice("salary", salarySlots));
+                salaryIndexed = true;
+            }
+        }
+        Map<String, Integer> considered = new LinkedHashMap<>();
+        for (IndexChoice index : indexes) {
+            considered.put(index.name, index.cardinality);
+        }
+
+        String access;
+        BitSet candidates;
+        List<String> intersected = new ArrayList<>();
+        if (indexes.isEmpty()) {
+            access = "scan";
+            candidates = slotIndex.allSlots();
+        } else {
+            access = indexes.get(0).name;
+            candidates = indexes.get(0).slots;
+            if (indexes.size() > 1 && !candidates.isEmpty()) {
+                // kopia najmniejszej mapy - mapy z indeksu nie mogą być modyfikowane
+                candidates = (BitSet) candidates.clone();
+                for (IndexChoice index : indexes.subList(1, indexes.size())) {
+                    candidates.and(index.slots);
+                    intersected.add(index.name);
+                }
+            }
+        }
+        List<String> residual = residualFilters(query, false);
+        if (salaryIndexed) {
+            residual.remove("salary");
+        }
+        QueryPlan plan = new QueryPlan(access, considered, intersected, residual, candidates.cardinality());
+
+        // indeks pensji nie jest aktualizowany pod blokadą indeksu slotów - pensję sprawdzamy jeszcze raz
+        boolean recheck = !residual.isEmpty() || salaryIndexed;
+        List<Employee> employees = new ArrayList<>(Math.min(limit, 1024));
+        int examined = 0;
+        int slot = candidates.nextSetBit(fromSlot);
+        while (slot >= 0 && employees.size() < limit) {
+            Employee employee = slotIndex.employeeAt(slot);
+            examined++;
+            if (!recheck || query.matches(employee)) {
+                employees.add(employee);
+            }
+            slot = candidates.nextSetBit(slot + 1);
+        }
+        return new EmployeeQueryResult(new EmployeePage(employees, slot >= 0 ? slotIndex.positionAt(slot) : -1),
+                plan, examined);
+    }
+
+    /**
+     * Sloty pracowników z zakresu pensji albo {@code null}, jeśli w zakresie jest co najmniej {@code bound} rekordów.
+     */
+    private BitSet salarySlots(EmployeeQuery query, int bound) {
+        Map<EmployeeService.SalaryKey, Employee> range = salaryRange(query);
+        BitSet slots = new BitSet();
+        int count = 0;
+        for (Employee employee : range.values()) {
+            if (++count >= bound) {
+                return null;
+            }
+            Integer slot = slotIndex.slotOf(employee);
+            if (slot != null) {
+                slots.set(slot);
+            }
+        }
+        return slots;
+    }
+
+    private Map<EmployeeService.SalaryKey, Employee> salaryRange(EmployeeQuery query) {
+        NavigableMap<EmployeeService.SalaryKey, Employee> range = employeesBySalary;
+        if (query.getMinSalary() != null) {
+            range = range.tailMap(new EmployeeService.SalaryKey(query.getMinSalary(), ""), true);
+        }
+        if (query.getMaxSalary() != null) {
+            range = range.headMap(new EmployeeService.SalaryKey(Math.nextUp(query.getMaxSalary()), ""), false);
+        }
+        return range;
+    }
+
+    private static List<String> residualFilters(EmployeeQuery query, boolean emailAccess) {
+        List<String> residual = new ArrayList<>();
+        if (emailAccess) {
+            if (query.getCompanyName() != null) {
+                residual.add("company");
+            }
+            if (query.getPosition() != null) {
+                residual.add("position");
+            }
+            if (query.getStatus() != null) {
+                residual.add("status");
+            }
+        }
+        if (query.hasSalaryRange()) {
+            residual.add("salary");
+        }
+        return residual;
+    }
+
+    private static class IndexChoice {
+        private final String name;
+        private final BitSet slots;
+        private final int cardinality;
+
+        IndexChoice(String name, BitSet slots) {
+            this.name = name;
+            this.slots = slots;
+            this.cardinality = slots.cardinality();
+        }
+    }
+}
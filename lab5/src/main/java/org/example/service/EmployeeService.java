@@ -1,10 +1,21 @@
 package org.example.service;
 
+import org.example.model.BatchResult;
 import org.example.model.CompanyStatistics;
 import org.example.model.Employee;
+import org.example.model.EmployeeChangeListener;
+import org.example.model.EmployeePage;
+import org.example.model.EmployeeQuery;
+import org.example.model.EmployeeQueryResult;
 import org.example.enums.EmploymentStatus;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
 
@@ -12,39 +23,249 @@ import org.springframework.stereotype.Service;
 @Service
 public class EmployeeService {
 
-    private Employee[] employees;
+    private volatile Employee[] employees;
+    // Indeks po emailu (małymi literami) - stabilna kolejność dla stronicowania i szybkie wyszukiwanie
+    private final ConcurrentNavigableMap<String, Employee> employeesByEmail = new ConcurrentSkipListMap<>();
+    // Indeks po (pensja, email) - zakresy pensji i najlepiej zarabiający bez sortowania
+    private final ConcurrentNavigableMap<SalaryKey, Employee> employeesBySalary = new ConcurrentSkipListMap<>();
+    // To samo w podziale na firmy (nazwa małymi literami) - najlepiej zarabiający w firmie bez grupowania
+    private final Map<String, ConcurrentNavigableMap<SalaryKey, Employee>> salariesByCompany = new ConcurrentHashMap<>();
+    // Sloty pracowników i mapy bitowe statusów
+    private final EmployeeSlotIndex slotIndex = new EmployeeSlotIndex();
+    private final EmployeeQueryPlanner queryPlanner = new EmployeeQueryPlanner(slotIndex, employeesBySalary);
+    // Zwiększana przy każdej zmianie danych - używana m.in. do ETagów
+    private final AtomicLong version = new AtomicLong();
+    private final List<EmployeeChangeListener> changeListeners = new CopyOnWriteArrayList<>();
+    // Podpinany pod każdego pracownika w magazynie - łapie zmiany robione setterami.
+    // Kopia, zmiana i aktualizacja indeksów idą pod blokadą serwisu, więc równoległe settery
+    // nie zobaczą nieaktualnego "before"
+    private final EmployeeChangeListener storedEmployeeListener = new EmployeeChangeListener() {
+        @Override
+        public void onEmployeeChanged(Employee before, Employee after) {
+            recordChange(before, after);
+        }
+
+        @Override
+        public void applyChange(Employee employee, Consumer<Employee> mutation) {
+            synchronized (EmployeeService.this) {
+                if (!isStored(employee)) {
+                    // usunięty albo podmieniony w czasie oczekiwania na blokadę
+                    mutation.accept(employee);
+                    return;
+                }
+                // najpierw na kopii - błędna zmiana nie może zostawić indeksów w połowie aktualizacji
+                Employee after = employee.copy();
+                mutation.accept(after);
+                validateEmailChange(employee, after.getEmail());
+                EmployeeChangeListener.super.applyChange(employee, mutation);
+            }
+        }
+    };
 
     public EmployeeService(Employee[] employees) {
         this.employees = employees != null ? employees.clone() : new Employee[0];
+        rebuildIndexes();
     }
 
     public Employee[] getEmployees() {
         return employees;
     }
 
-    public void setEmployees(Employee[] employees) {
+    public synchronized void setEmployees(Employee[] employees) {
+        for (Employee e : this.employees) {
+            if (e != null) {
+                e.setChangeListener(null);
+            }
+        }
         this.employees = employees;
+        rebuildIndexes();
+        version.incrementAndGet();
+        for (EmployeeChangeListener listener : changeListeners) {
+            listener.onEmployeesReset();
+        }
+    }
+
+    public long getVersion() {
+        return version.get();
+    }
+
+    public void addChangeListener(EmployeeChangeListener listener) {
+        changeListeners.add(listener);
+    }
+
+    /**
+     * Dla indeksów budowanych z {@link #getEmployees()}: rejestracja i pierwsze {@code onEmployeesReset()}
+     * odbywają się pod blokadą serwisu, więc żadna zmiana nie zostanie pominięta ani zastosowana dwa razy.
+     */
+    public synchronized void addIndexListener(EmployeeChangeListener listener) {
+        changeListeners.add(listener);
+        listener.onEmployeesReset();
+    }
+
+    private void rebuildIndexes() {
+        employeesByEmail.clear();
+        employeesBySalary.clear();
+        salariesByCompany.clear();
+        slotIndex.rebuild(employees);
+        if (employees == null) {
+            return;
+        }
+        for (Employee e : employees) {
+            if (e != null) {
+                e.setChangeListener(storedEmployeeListener);
+                if (e.getEmail() != null) {
+                    employeesByEmail.put(emailKey(e.getEmail()), e);
+                    employeesBySalary.put(SalaryKey.of(e), e);
+                    addToCompanySalaries(e);
+                }
+            }
+        }
+    }
+
+    private static String emailKey(String email) {
+        return email.toLowerCase();
+    }
+
+    private boolean isStored(Employee employee) {
+        if (employee.getEmail() == null) {
+            // pracownika bez emaila nie ma w indeksie emaili, tylko w tablicy (np. niepełny rekord z importu)
+            for (Employee e : employees) {
+                if (e == employee) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return employeesByEmail.get(emailKey(employee.getEmail())) == employee;
+    }
+
+    // Zmiana emaila setterem podlega tym samym regułom co addEmployee
+    private void validateEmailChange(Employee employee, String newEmail) {
+        if (Objects.equals(employee.getEmail(), newEmail)) {
+            return;
+        }
+        if (newEmail == null || newEmail.isBlank()) {
+            throw new IllegalArgumentException("employee email is null or empty");
+        }
+        Employee other = employeesByEmail.get(emailKey(newEmail));
+        if (other != null && other != employee) {
+            throw new IllegalArgumentException("employee already exists");
+        }
+    }
+
+    /**
+     * Jedyne miejsce aktualizacji indeksów po zmianie pojedynczego pracownika.
+     * Wywoływane pod blokadą serwisu; {@code before == null} - dodanie, {@code after == null} - usunięcie.
+     */
+    private void recordChange(Employee before, Employee after) {
+        if (before != null && before != after) {
+            before.setChangeListener(null);
+        }
+        if (before != null && before.getEmail() != null) {
+            employeesByEmail.remove(emailKey(before.getEmail()));
+            // before ma jeszcze starą pensję (przy zmianie setterem to kopia sprzed zmiany)
+            employeesBySalary.remove(SalaryKey.of(before));
+            removeFromCompanySalaries(before);
+        }
+        if (after != null) {
+            after.setChangeListener(storedEmployeeListener);
+            if (after.getEmail() != null) {
+                employeesByEmail.put(emailKey(after.getEmail()), after);
+                employeesBySalary.put(SalaryKey.of(after), after);
+                addToCompanySalaries(after);
+            }
+        }
+        slotIndex.update(before, after);
+        version.incrementAndGet();
+        for (EmployeeChangeListener listener : changeListeners) {
+            listener.onEmployeeChanged(before, after);
+        }
+    }
+
+    private void addToCompanySalaries(Employee employee) {
+        if (employee.getCompanyName() != null) {
+            salariesByCompany.computeIfAbsent(employee.getCompanyName().toLowerCase(), k -> new ConcurrentSkipListMap<>())
+                    .put(SalaryKey.of(employee), employee);
+        }
+    }
+
+    private void removeFromCompanySalaries(Employee employee) {
+        if (employee.getCompanyName() == null) {
+            return;
+        }
+        String company = employee.getCompanyName().toLowerCase();
+        ConcurrentNavigableMap<SalaryKey, Employee> salaries = salariesByCompany.get(company);
+        if (salaries != null) {
+            salaries.remove(SalaryKey.of(employee));
+            if (salaries.isEmpty()) {
+                salariesByCompany.remove(company);
+            }
+        }
     }
 
     public List<Employee> getEmployeesByStatus(EmploymentStatus status) {
-        return Arrays.stream(employees).filter(e -> e.getStatus().equals(status)).collect(Collectors.toList());
+        return getEmployeesByStatus(status, 0, Integer.MAX_VALUE).getEmployees();
+    }
+
+    /**
+     * Strona pracowników o danym statusie z indeksu - bez przeglądania całego magazynu.
+     * {@code fromSlot} to 0 dla pierwszej strony, a dla kolejnych {@link EmployeePage#getNextSlot()}.
+     */
+    public EmployeePage getEmployeesByStatus(EmploymentStatus status, long fromSlot, int limit) {
+        if (status == null) {
+            throw new IllegalArgumentException("status is null");
+        }
+        if (fromSlot < 0) {
+            throw new IllegalArgumentException("fromSlot must not be negative");
+        }
+        if (limit <= 0) {
+            throw new IllegalArgumentException("limit must be positive");
+        }
+        return slotIndex.pageByStatus(status, fromSlot, limit);
     }
 
+    /**
+     * Zapytanie wielokryterialne - plan (użyte indeksy, liczba sprawdzonych rekordów) jest zwracany razem z wynikiem.
+     * Stronicowanie jak w {@link #getEmployeesByStatus(EmploymentStatus, long, int)}.
+     */
+    public EmployeeQueryResult query(EmployeeQuery query, long fromSlot, int limit) {
+        if (query == null) {
+            throw new IllegalArgumentException("query is null");
+        }
+        if (query.getMinSalary() != null && query.getMaxSalary() != null && query.getMinSalary() > query.getMaxSalary()) {
+            throw new IllegalArgumentException("minSalary must not be greater than maxSalary");
+        }
+        if (fromSlot < 0) {
+            throw new IllegalArgumentException("fromSlot must not be negative");
+        }
+        if (limit <= 0) {
+            throw new IllegalArgumentException("limit must be positive");
+        }
+        Employee emailMatch = query.getEmail() != null ? employeesByEmail.get(emailKey(query.getEmail())) : null;
+        return queryPlanner.execute(query, emailMatch, fromSlot, limit);
+    }
 
     public Map<EmploymentStatus, Long> getStatusStatistics() {
-        return Arrays.stream(employees)
-                .collect(Collectors.groupingBy(Employee::getStatus, Collectors.counting()));
+        Map<EmploymentStatus, Long> statistics = new EnumMap<>(EmploymentStatus.class);
+        for (EmploymentStatus status : EmploymentStatus.values()) {
+            int count = slotIndex.countByStatus(status);
+            if (count > 0) {
+                statistics.put(status, (long) count);
+            }
+        }
+        return statistics;
     }
 
-    public void addEmployee(Employee employee) {
+    public synchronized void addEmployee(Employee employee) {
         if (employee == null) {
             throw new IllegalArgumentException("employee is null");
 
         }
-        for (Employee e : employees) {
-            if (e != null && e.equals(employee)) {
-                throw new IllegalArgumentException("employee already exists");
-            }
+        if (employee.getEmail() == null || employee.getEmail().isEmpty()) {
+            throw new IllegalArgumentException("employee email is null or empty");
+        }
+        if (employeesByEmail.containsKey(emailKey(employee.getEmail()))) {
+            throw new IllegalArgumentException("employee already exists");
         }
         Employee[] newEmployees = new Employee[employees.length + 1];
 
@@ -53,10 +274,11 @@ public class EmployeeService {
         newEmployees[newEmployees.length - 1] = employee;
 
         employees = newEmployees;
+        recordChange(null, employee);
         System.out.println("Employee added successfu  lly");
     }
 
-    public void deleteEmployee(String email) {
+    public synchronized void deleteEmployee(String email) {
         if (email == null || email.isEmpty()) {
             throw new IllegalArgumentException("email is null or empty");
         }
@@ -66,18 +288,28 @@ public class EmployeeService {
             return;
         }
 
-        List<Employee> employeeList = new ArrayList<>(Arrays.asList(employees));
-        boolean removed = employeeList.removeIf(e -> e != null && e.getEmail().equalsIgnoreCase(email));
+        List<Employee> employeeList = new ArrayList<>(employees.length);
+        List<Employee> removedEmployees = new ArrayList<>(1);
+        for (Employee e : employees) {
+            if (e != null && e.getEmail().equalsIgnoreCase(email)) {
+                removedEmployees.add(e);
+            } else {
+                employeeList.add(e);
+            }
+        }
 
-        if (removed) {
+        if (!removedEmployees.isEmpty()) {
             employees = employeeList.toArray(new Employee[0]);
+            for (Employee e : removedEmployees) {
+                recordChange(e, null);
+            }
             System.out.println("Employee with email " + email + " deleted successfully.");
         } else {
             System.out.println("Employee with email " + email + " not found.");
         }
     }
 
-    public void updateEmployee(Employee updatedEmployee) {
+    public synchronized void updateEmployee(Employee updatedEmployee) {
         if (updatedEmployee == null) {
             throw new IllegalArgumentException("updatedEmployee is null");
         }
@@ -91,7 +323,13 @@ public class EmployeeService {
         for (int i = 0; i < employees.length; i++) {
             Employee e = employees[i];
             if (e != null && e.getEmail().equalsIgnoreCase(updatedEmployee.getEmail())) {
-                employees[i] = updatedEmployee;
+                // ten sam obiekt - zmiany zostały już zarejestrowane przez settery
+                if (e != updatedEmployee) {
+                    Employee[] newEmployees = employees.clone();
+                    newEmployees[i] = updatedEmployee;
+                    employees = newEmployees;
+                    recordChange(e, updatedEmployee);
+                }
                 found = true;
                 System.out.println("Employee with email " + updatedEmployee.getEmail() + " updated successfully.");
                 break;
@@ -103,6 +341,139 @@ public class EmployeeService {
         }
     }
 
+    /**
+     * Dodaje wielu pracowników jedną kopią tablicy. Pozycje z błędami są pomijane
+     * i raportowane w wyniku, pozostałe zostają zapisane.
+     */
+    public synchronized BatchResult addEmployees(List<Employee> newEmployees) {
+        List<BatchResult.ItemResult> results = new ArrayList<>(newEmployees.size());
+        List<Employee> accepted = new ArrayList<>(newEmployees.size());
+        Set<String> batchEmails = new HashSet<>();
+        for (int i = 0; i < newEmployees.size(); i++) {
+            Employee employee = newEmployees.get(i);
+            String email = employee == null ? null : employee.getEmail();
+            if (employee == null) {
+                results.add(BatchResult.ItemResult.failed(i, null, "employee is null"));
+            } else if (email == null || email.isEmpty()) {
+                results.add(BatchResult.ItemResult.failed(i, email, "employee email is null or empty"));
+            } else if (employeesByEmail.containsKey(emailKey(email)) || !batchEmails.add(emailKey(email))) {
+                results.add(BatchResult.ItemResult.failed(i, email, "employee already exists"));
+            } else {
+                accepted.add(employee);
+                results.add(BatchResult.ItemResult.ok(i, email));
+            }
+        }
+
+        if (!accepted.isEmpty()) {
+            Employee[] newArray = Arrays.copyOf(employees, employees.length + accepted.size());
+            for (int i = 0; i < accepted.size(); i++) {
+                newArray[employees.length + i] = accepted.get(i);
+            }
+            employees = newArray;
+            for (Employee employee : accepted) {
+                recordChange(null, employee);
+            }
+        }
+        return new BatchResult(results);
+    }
+
+    /**
+     * Podmienia wielu pracowników (dopasowanie po emailu) jedną kopią tablicy.
+     * Nieistniejące emaile i duplikaty w paczce są raportowane jako błędy pozycji.
+     */
+    public synchronized BatchResult updateEmployees(List<Employee> updatedEmployees) {
+        List<BatchResult.ItemResult> results = new ArrayList<>(updatedEmployees.size());
+        Map<Employee, Employee> replacements = new IdentityHashMap<>();
+        Set<String> batchEmails = new HashSet<>();
+        for (int i = 0; i < updatedEmployees.size(); i++) {
+            Employee employee = updatedEmployees.get(i);
+            String email = employee == null ? null : employee.getEmail();
+            Employee stored = email == null ? null : employeesByEmail.get(emailKey(email));
+            if (employee == null) {
+                results.add(BatchResult.ItemResult.failed(i, null, "employee is null"));
+            } else if (stored == null) {
+                results.add(BatchResult.ItemResult.failed(i, email, "employee not found"));
+            } else if (!batchEmails.add(emailKey(email))) {
+                results.add(BatchResult.ItemResult.failed(i, email, "duplicate email in batch"));
+            } else {
+                if (stored != employee) {
+                    replacements.put(stored, employee);
+                }
+                results.add(BatchResult.ItemResult.ok(i, email));
+            }
+        }
+
+        if (!replacements.isEmpty()) {
+            Employee[] newArray = employees.clone();
+            for (int i = 0; i < newArray.length; i++) {
+                Employee replacement = replacements.get(newArray[i]);
+                if (replacement != null) {
+                    newArray[i] = replacement;
+                }
+            }
+            employees = newArray;
+            for (Map.Entry<Employee, Employee> entry : replacements.entrySet()) {
+                recordChange(entry.getKey(), entry.getValue());
+            }
+        }
+        return new BatchResult(results);
+    }
+
+    /**
+     * Aplikuje paczkę zmian (np. z synchronizacji z API) jedną operacją zapisu.
+     * Czytelnicy widzą albo stary, albo nowy snapshot tablicy - nigdy stan pośredni.
+     *
+     * @return emaile (małymi literami) faktycznie dodanych pracowników - dodanie jest pomijane,
+     * jeśli pracownik o tym emailu pojawił się w magazynie od czasu przygotowania paczki
+     */
+    public synchronized Set<String> applyChanges(List<Employee> added, List<Employee> updated, List<String> removedEmails) {
+        Map<String, Employee> updatesByEmail = new HashMap<>();
+        for (Employee e : updated) {
+            updatesByEmail.put(e.getEmail().toLowerCase(), e);
+        }
+        Set<String> removed = new HashSet<>();
+        for (String email : removedEmails) {
+            removed.add(email.toLowerCase());
+        }
+
+        List<Employee[]> changes = new ArrayList<>();
+        List<Employee> result = new ArrayList<>(employees.length + added.size());
+        Set<String> present = new HashSet<>();
+        for (Employee e : employees) {
+            if (e == null) {
+                continue;
+            }
+            String key = e.getEmail() == null ? null : e.getEmail().toLowerCase();
+            if (key != null && removed.contains(key)) {
+                changes.add(new Employee[]{e, null});
+                continue;
+            }
+            Employee replacement = updatesByEmail.get(key);
+            if (replacement != null && replacement != e) {
+                changes.add(new Employee[]{e, replacement});
+                result.add(replacement);
+            } else {
+                result.add(e);
+            }
+            present.add(key);
+        }
+        Set<String> applied = new HashSet<>();
+        for (Employee e : added) {
+            String key = e.getEmail().toLowerCase();
+            if (present.add(key)) {
+                changes.add(new Employee[]{null, e});
+                result.add(e);
+                applied.add(key);
+            }
+        }
+        employees = result.toArray(new Employee[0]);
+
+        for (Employee[] change : changes) {
+            recordChange(change[0], change[1]);
+        }
+        return applied;
+    }
+
     public void displayAllEmployees() {
 
         if (employees == null || employees.length == 0) {
@@ -144,15 +515,32 @@ public class EmployeeService {
             throw new IllegalArgumentException("email is null or empty");
         }
 
-        if (employees == null || employees.length == 0) {
-            System.out.println("No employees to search.");
-            return null;
-        }
+        return employeesByEmail.get(emailKey(email));
+    }
 
-        return Arrays.stream(employees)
-                .filter(e -> e != null && e.getEmail().equalsIgnoreCase(email))
-                .findFirst()
-                .orElse(null);
+    /**
+     * Zwraca do {@code limit} pracowników posortowanych po emailu, zaczynając za {@code afterEmail}
+     * (kursor, wyłącznie). Czyta tylko tyle wpisów indeksu, ile potrzeba do zapełnienia strony.
+     */
+    public List<Employee> getEmployeesPage(String afterEmail, int limit, String companyName) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("limit must be positive");
+        }
+        Collection<Employee> candidates = afterEmail == null
+                ? employeesByEmail.values()
+                : employeesByEmail.tailMap(emailKey(afterEmail), false).values();
+
+        List<Employee> page = new ArrayList<>(Math.min(limit, 1024));
+        for (Employee e : candidates) {
+            if (companyName != null && (e.getCompanyName() == null || !e.getCompanyName().equalsIgnoreCase(companyName))) {
+                continue;
+            }
+            page.add(e);
+            if (page.size() == limit) {
+                break;
+            }
+        }
+        return page;
     }
 
     public Map<String, List<Employee>> getEmployeesGroupedByPosition() {
@@ -201,9 +589,56 @@ public class EmployeeService {
             System.out.println("No employees to find highest paid.");
             return Optional.empty();
         }
-        return Arrays.stream(employees)
-                .filter(Objects::nonNull)
-                .max(Comparator.comparingDouble(Employee::getSalary));
+        Map.Entry<SalaryKey, Employee> top = employeesBySalary.lastEntry();
+        return top == null ? Optional.empty() : Optional.of(top.getValue());
+    }
+
+    /**
+     * Pracownicy z pensją w przedziale [minSalary, maxSalary], rosnąco po (pensja, email).
+     * Kursor to pensja i email ostatniego rekordu poprzedniej strony ({@code null} dla pierwszej).
+     * Koszt O(log N + limit).
+     */
+    public List<Employee> getEmployeesBySalaryRange(double minSalary, double maxSalary,
+                                                    Double afterSalary, String afterEmail, int limit) {
+        if (minSalary > maxSalary) {
+            throw new IllegalArgumentException("minSalary must not be greater than maxSalary");
+        }
+        if (limit <= 0) {
+            throw new IllegalArgumentException("limit must be positive");
+        }
+        SalaryKey lowest = new SalaryKey(minSalary, "");
+        Collection<Employee> candidates;
+        if (afterSalary != null && afterEmail != null && new SalaryKey(afterSalary, emailKey(afterEmail)).compareTo(lowest) > 0) {
+            candidates = employeesBySalary.tailMap(new SalaryKey(afterSalary, emailKey(afterEmail)), false).values();
+        } else {
+            candidates = employeesBySalary.tailMap(lowest, true).values();
+        }
+
+        List<Employee> page = new ArrayList<>(Math.min(limit, 1024));
+        for (Employee e : candidates) {
+            if (e.getSalary() > maxSalary || page.size() == limit) {
+                break;
+            }
+            page.add(e);
+        }
+        return page;
+    }
+
+    /**
+     * {@code n} najlepiej zarabiających, malejąco po pensji - O(log N + n).
+     */
+    public List<Employee> getTopEarners(int n) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("n must be positive");
+        }
+        List<Employee> top = new ArrayList<>(Math.min(n, 1024));
+        for (Employee e : employeesBySalary.descendingMap().values()) {
+            if (top.size() == n) {
+                break;
+            }
+            top.add(e);
+        }
+        return top;
     }
 
     public List<Employee> validateSalaryConsistency() {
@@ -238,4 +673,44 @@ public class EmployeeService {
                         })));
 
     }
+
+    /**
+     * {@code n} najlepiej zarabiających w firmie (bez rozróżniania wielkości liter), malejąco po pensji - O(log N + n).
+     * Pusta lista, jeśli firma nie ma pracowników.
+     */
+    public List<Employee> getTopEarnersByCompany(String companyName, int n) {
+        if (companyName == null || companyName.isEmpty()) {
+            throw new IllegalArgumentException("companyName is null or empty");
+        }
+        if (n <= 0) {
+            throw new IllegalArgumentException("n must be positive");
+        }
+        ConcurrentNavigableMap<SalaryKey, Employee> salaries = salariesByCompany.get(companyName.toLowerCase());
+        if (salaries == null) {
+            return Collections.emptyList();
+        }
+        List<Employee> top = new ArrayList<>(Math.min(n, 1024));
+        for (Employee e : salaries.descendingMap().values()) {
+            if (top.size() == n) {
+                break;
+            }
+            top.add(e);
+        }
+        return top;
+    }
+
+    /**
+     * Niezmienny klucz indeksu pensji - obiekt Employee zmienia się setterami, więc nie może być kluczem.
+     */
+    record SalaryKey(double salary, String email) implements Comparable<SalaryKey> {
+        static SalaryKey of(Employee employee) {
+            return new SalaryKey(employee.getSalary(), emailKey(employee.getEmail()));
+        }
+
+        @Override
+        public int compareTo(SalaryKey other) {
+            int bySalary = Double.compare(salary, other.salary);
+            return bySalary != 0 ? bySalary : email.compareTo(other.email);
+        }
+    }
 }
@@ -0,0 +1,274 @@
+package org.example.service;
+
+import org.example.enums.EmploymentStatus;
+import org.example.model.Employee;
+import org.example.model.EmployeePage;
+import org.example.model.Position;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * Każdy pracownik w magazynie dostaje slot, a dla każdego statusu, stanowiska i firmy trzymana jest
+ * mapa bitowa slotów. Nowi pracownicy trafiają na koniec; gdy po usunięciach zajęta jest mniej niż połowa
+ * slotów, indeks jest zagęszczany (kolejność zachowana), więc tablice i mapy bitowe rosną z liczbą
+ * pracowników, a nie z liczbą zmian.
+ * Kursory nie używają numerów slotów, tylko pozycji: rosnącego numeru {@code long} nadawanego przy dodaniu
+ * i niezmiennego przy zagęszczaniu. Kursor nie pomija ani nie powtarza rekordów, gdy w trakcie stronicowania
+ * ktoś zostanie usunięty lub dodany - nowi pracownicy mają zawsze pozycję za kursorem.
+ * Zapisy wykonuje {@link EmployeeService} pod swoją blokadą; odczyty idą pod blokadą odczytu indeksu.
+ */
+class EmployeeSlotIndex {
+    // Zagęszczanie dopiero od tylu slotów - małe indeksy nie są przepisywane po każdym usunięciu
+    static final int MIN_SLOTS_TO_COMPACT = 64;
+
+    private Employee[] slots = new Employee[16];
+    // Pozycja (dla kursorów) pracownika w slocie - rosnąco po slotach, także w dziurach po usuniętych
+    private long[] positions = new long[16];
+    // Tożsamość obiektu, nie equals - Employee porównuje po emailu
+    private final Map<Employee, Integer> slotOf = new IdentityHashMap<>();
+    private final BitSet used = new BitSet();
+    // Pierwszy slot za ostatnim przydzielonym
+    private int top;
+    // Następna pozycja - nie jest cofana nawet przy rebuild, więc stare kursory nie wskazują na nowych
+    private long nextPosition;
+    private final Map<EmploymentStatus, BitSet> byStatus = new EnumMap<>(EmploymentStatus.class);
+    private final Map<Position, BitSet> byPosition = new EnumMap<>(Position.class);
+    // Klucz: nazwa firmy małymi literami; puste mapy są usuwane
+    private final Map<String, BitSet> byCompany = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    EmployeeSlotIndex() {
+        for (EmploymentStatus status : EmploymentStatus.values()) {
+            byStatus.put(status, new BitSet());
+        }
+        for (Position position : Position.values()) {
+            byPosition.put(position, new BitSet());
+        }
+    }
+
+    void rebuild(Employee[] employees) {
+        lock.writeLock().lock();
+        try {
+            clear(Math.max(16, employees == null ? 0 : employees.length));
+            if (employees != null) {
+                for (Employee e : employees) {
+                    if (e != null) {
+                        append(e, nextPosition++);
+                    }
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * {@code before == null} - dodanie, {@code after == null} - usunięcie. Przy zmianie setterem
+     * {@code before} jest kopią, a {@code after} obiektem już zapisanym w slocie.
+     */
+    void update(Employee before, Employee after) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = before != null ? slotOf.remove(before) : null;
+            if (slot == null && after != null) {
+                slot = slotOf.get(after);
+            }
+            if (slot != null && before != null) {
+                unindex(before, slot);
+            }
+            if (after == null) {
+                if (slot != null) {
+                    slots[slot] = null;
+                    used.clear(slot);
+                    compactIfSparse();
+                }
+                return;
+            }
+            if (slot != null) {
+                place(after, slot);
+            } else {
+                append(after, nextPosition++);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void clear(int capacity) {
+        slotOf.clear();
+        used.clear();
+        byStatus.values().forEach(BitSet::clear);
+        byPosition.values().forEach(BitSet::clear);
+        byCompany.clear();
+        slots = new Employee[capacity];
+        positions = new long[capacity];
+        top = 0;
+    }
+
+    private void append(Employee employee, long position) {
+        if (top == slots.length) {
+            slots = Arrays.copyOf(slots, slots.length * 2);
+            positions = Arrays.copyOf(positions, positions.length * 2);
+        }
+        positions[top] = position;
+        place(employee, top++);
+    }
+
+    // Zajęta mniej niż połowa slotów - przepisanie w kolejności slotów, z zachowaniem pozycji. Koszt O(top)
+    // rozkłada się na co najmniej top/2 usunięć od poprzedniego zagęszczenia.
+    private void compactIfSparse() {
+        int live = slotOf.size();
+        if (top < MIN_SLOTS_TO_COMPACT || live * 2 >= top) {
+            return;
+        }
+        Employee[] liveEmployees = new Employee[live];
+        long[] livePositions = new long[live];
+        int j = 0;
+        for (int slot = used.nextSetBit(0); slot >= 0; slot = used.nextSetBit(slot + 1)) {
+            liveEmployees[j] = slots[slot];
+            livePositions[j] = positions[slot];
+            j++;
+        }
+        clear(Math.max(16, live * 2));
+        for (int i = 0; i < live; i++) {
+            append(liveEmployees[i], livePositions[i]);
+        }
+    }
+
+    /**
+     * Pierwszy slot z pozycją co najmniej {@code position} (albo {@code top}) - wyszukiwanie binarne.
+     */
+    int firstSlotAt(long position) {
+        int index = Arrays.binarySearch(positions, 0, top, position);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    long positionAt(int slot) {
+        return positions[slot];
+    }
+
+    // Dla testów - liczba przydzielonych slotów razem z dziurami
+    int allocatedSlots() {
+        lock.readLock().lock();
+        try {
+            return top;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void place(Employee employee, int slot) {
+        if (slot >= slots.length) {
+            slots = Arrays.copyOf(slots, Math.max(slots.length * 2, slot + 1));
+        }
+        slots[slot] = employee;
+        slotOf.put(employee, slot);
+        used.set(slot);
+        if (employee.getStatus() != null) {
+            byStatus.get(employee.getStatus()).set(slot);
+        }
+        if (employee.getPosition() != null) {
+            byPosition.get(employee.getPosition()).set(slot);
+        }
+        if (employee.getCompanyName() != null) {
+            byCompany.computeIfAbsent(companyKey(employee.getCompanyName()), k -> new BitSet()).set(slot);
+        }
+    }
+
+    private void unindex(Employee employee, int slot) {
+        if (employee.getStatus() != null) {
+            byStatus.get(employee.getStatus()).clear(slot);
+        }
+        if (employee.getPosition() != null) {
+            byPosition.get(employee.getPosition()).clear(slot);
+        }
+        if (employee.getCompanyName() != null) {
+            String key = companyKey(employee.getCompanyName());
+            BitSet bits = byCompany.get(key);
+            if (bits != null) {
+                bits.clear(slot);
+                if (bits.isEmpty()) {
+                    byCompany.remove(key);
+                }
+            }
+        }
+    }
+
+    private static String companyKey(String companyName) {
+        return companyName.toLowerCase();
+    }
+
+    /**
+     * Do {@code limit} pracowników o danym statusie, zaczynając od pozycji {@code fromPosition}.
+     * Koszt zależy od liczby zwróconych rekordów, nie od rozmiaru magazynu.
+     */
+    EmployeePage pageByStatus(EmploymentStatus status, long fromPosition, int limit) {
+        lock.readLock().lock();
+        try {
+            BitSet bits = byStatus.get(status);
+            List<Employee> page = new ArrayList<>(Math.min(limit, 1024));
+            int slot = bits.nextSetBit(firstSlotAt(fromPosition));
+            while (slot >= 0 && page.size() < limit) {
+                page.add(slots[slot]);
+                slot = bits.nextSetBit(slot + 1);
+            }
+            return new EmployeePage(page, slot >= 0 ? positions[slot] : -1);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int countByStatus(EmploymentStatus status) {
+        lock.readLock().lock();
+        try {
+            return byStatus.get(status).cardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Dostęp dla EmployeeQueryPlanner - tylko wewnątrz read(...)
+
+    <T> T read(Supplier<T> reader) {
+        lock.readLock().lock();
+        try {
+            return reader.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    Employee employeeAt(int slot) {
+        return slots[slot];
+    }
+
+    Integer slotOf(Employee employee) {
+        return slotOf.get(employee);
+    }
+
+    BitSet allSlots() {
+        return used;
+    }
+
+    BitSet statusSlots(EmploymentStatus status) {
+        return byStatus.get(status);
+    }
+
+    BitSet positionSlots(Position position) {
+        return byPosition.get(position);
+    }
+
+    BitSet companySlots(String companyName) {
+        BitSet bits = byCompany.get(companyKey(companyName));
+        return bits != null ? bits : new BitSet();
+    }
+}
@@ -0,0 +1,196 @@
+package org.example.service;
+
+import org.example.model.Employee;
+import org.example.model.EmployeeChangeListener;
+import org.example.model.SearchHit;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Indeks odwrócony: słowo (małe litery, bez znaków diakrytycznych) -> pracownicy, u których występuje,
+ * z informacją w których polach. Aktualizowany przyrostowo przy każdej zmianie w {@link EmployeeService}.
+ * Wynik to suma po dopasowanych słowach: waga pola (nazwisko > imię > firma, email) * idf słowa.
+ */
+@Service
+public class FullTextIndex implements EmployeeChangeListener {
+    static final int SURNAME = 1;
+    static final int NAME = 2;
+    static final int COMPANY = 4;
+    static final int EMAIL = 8;
+
+    public enum Mode {
+        // wszystkie słowa zapytania muszą wystąpić
+        AND,
+        // wystarczy jedno słowo
+        OR
+    }
+
+    private final EmployeeService employeeService;
+    // słowo -> (email małymi literami -> wpis)
+    private final Map<String, Map<String, Posting>> postings = new ConcurrentHashMap<>();
+    private volatile int documents;
+
+    public FullTextIndex(EmployeeService employeeService) {
+        this.employeeService = employeeService;
+        employeeService.addIndexListener(this);
+    }
+
+    @Override
+    public void onEmployeeChanged(Employee before, Employee after) {
+        String beforeKey = before != null && before.getEmail() != null ? before.getEmail().toLowerCase() : null;
+        String afterKey = after != null && after.getEmail() != null ? after.getEmail().toLowerCase() : null;
+        Map<String, Integer> afterTerms = afterKey != null ? terms(after) : Collections.emptyMap();
+        if (beforeKey != null) {
+            for (String term : terms(before).keySet()) {
+                if (!beforeKey.equals(afterKey) || !afterTerms.containsKey(term)) {
+                    removePosting(term, beforeKey);
+                }
+            }
+            documents--;
+        }
+        if (afterKey != null) {
+            for (Map.Entry<String, Integer> entry : afterTerms.entrySet()) {
+                postings.computeIfAbsent(entry.getKey(), k -> new ConcurrentHashMap<>())
+                        .put(afterKey, new Posting(after, entry.getValue()));
+            }
+            documents++;
+        }
+    }
+
+    @Override
+    public void onEmployeesReset() {
+        postings.clear();
+        documents = 0;
+        for (Employee e : employeeService.getEmployees()) {
+            if (e != null) {
+                onEmployeeChanged(null, e);
+            }
+        }
+    }
+
+    private void removePosting(String term, String emailKey) {
+        Map<String, Posting> employees = postings.get(term);
+        if (employees != null) {
+            employees.remove(emailKey);
+            if (employees.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+    }
+
+    // słowo -> maska pól, w których występuje
+    private static Map<String, Integer> terms(Employee employee) {
+        Map<String, Integer> terms = new HashMap<>();
+        addTerms(terms, employee.getSurname(), SURNAME);
+        addTerms(terms, employee.getName(), NAME);
+        addTerms(terms, employee.getCompanyName(), COMPANY);
+        addTerms(terms, employee.getEmail(), EMAIL);
+        return terms;
+    }
+
+    private static void addTerms(Map<String, Integer> terms, String value, int field) {
+        for (String token : TextNormalizer.tokens(value)) {
+            terms.merge(token, field, (a, b) -> a | b);
+        }
+    }
+
+    /**
+     * Do {@code limit} najlepiej dopasowanych pracowników, malejąco po wyniku (przy remisie - po emailu).
+     */
+    public List<SearchHit> search(String query, Mode mode, int limit) {
+        Set<String> queryTerms = new LinkedHashSet<>(TextNormalizer.tokens(query));
+        if (queryTerms.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Map<String, Posting>> lists = new ArrayList<>(queryTerms.size());
+        List<Double> idfs = new ArrayList<>(queryTerms.size());
+        for (String term : queryTerms) {
+            Map<String, Posting> list = postings.getOrDefault(term, Collections.emptyMap());
+            if (list.isEmpty() && mode == Mode.AND) {
+                return Collections.emptyList();
+            }
+            lists.add(list);
+            idfs.add(Math.log(1.0 + (double) Math.max(documents, 1) / Math.max(list.size(), 1)));
+        }
+
+        Map<String, SearchHit> hits = new HashMap<>();
+        if (mode == Mode.AND) {
+            // sprawdzamy tylko najkrótszą listę, resztę przez wyszukanie w mapie
+            int shortest = 0;
+            for (int i = 1; i < lists.size(); i++) {
+                if (lists.get(i).size() < lists.get(shortest).size()) {
+                    shortest = i;
+                }
+            }
+            candidates:
+            for (Map.Entry<String, Posting> entry : lists.get(shortest).entrySet()) {
+                double score = 0;
+                for (int i = 0; i < lists.size(); i++) {
+                    Posting posting = lists.get(i).get(entry.getKey());
+                    if (posting == null) {
+                        continue candidates;
+                    }
+                    score += fieldWeight(posting.fields) * idfs.get(i);
+                }
+                hits.put(entry.getKey(), new SearchHit(entry.getValue().employee, score));
+            }
+        } else {
+            for (int i = 0; i < lists.size(); i++) {
+                double idf = idfs.get(i);
+                for (Map.Entry<String, Posting> entry : lists.get(i).entrySet()) {
+                    double score = fieldWeight(entry.getValue().fields) * idf;
+                    hits.merge(entry.getKey(), new SearchHit(entry.getValue().employee, score),
+                            (a, b) -> new SearchHit(b.getEmployee(), a.getScore() + b.getScore()));
+                }
+            }
+        }
+        return topHits(hits.values(), limit);
+    }
+
+    private static List<SearchHit> topHits(Iterable<SearchHit> hits, int limit) {
+        Comparator<SearchHit> ranking = Comparator.comparingDouble(SearchHit::getScore).reversed()
+                .thenComparing(hit -> hit.getEmployee().getEmail().toLowerCase());
+        // kopiec najgorszych z bieżącej czołówki - O(n log limit) zamiast sortowania wszystkich trafień
+        PriorityQueue<SearchHit> top = new PriorityQueue<>(ranking.reversed());
+        for (SearchHit hit : hits) {
+            top.add(hit);
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+        List<SearchHit> result = new ArrayList<>(top);
+        result.sort(ranking);
+        return result;
+    }
+
+    // najlepsze z pól, w których słowo wystąpiło
+    private static double fieldWeight(int fields) {
+        if ((fields & SURNAME) != 0) {
+            return 3.0;
+        }
+        if ((fields & NAME) != 0) {
+            return 2.0;
+        }
+        return 1.0;
+    }
+
+    private static class Posting {
+        private final Employee employee;
+        private final int fields;
+
+        Posting(Employee employee, int fields) {
+            this.employee = employee;
+            this.fields = fields;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package org.example.service;
+
+import org.example.enums.RateLimitTier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Limity żądań per klient z osobnym budżetem dla każdego {@link RateLimitTier}.
+ * Liczba śledzonych klientów jest ograniczona do {@code maxClients}: po przekroczeniu
+ * najpierw usuwani są klienci bezczynni (pełny bucket), a dopiero potem dowolne wpisy.
+ */
+@Service
+public class RateLimiter {
+    private final boolean enabled;
+    private final int maxClients;
+    private final Map<RateLimitTier, Limit> limits = new EnumMap<>(RateLimitTier.class);
+    private final ConcurrentHashMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final LongSupplier clock;
+    private final AtomicBoolean evicting = new AtomicBoolean();
+    private final LongAdder allowed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    @Autowired
+    public RateLimiter(@Value("${app.rate-limit.enabled:true}") boolean enabled,
+                       @Value("${app.rate-limit.max-clients:10000}") int maxClients,
+                       @Value("${app.rate-limit.point.capacity:100}") int pointCapacity,
+                       @Value("${app.rate-limit.point.refill-per-second:50}") double pointRefillPerSecond,
+                       @Value("${app.rate-limit.scan.capacity:10}") int scanCapacity,
+                       @Value("${app.rate-limit.scan.refill-per-second:2}") double scanRefillPerSecond) {
+        this(enabled, maxClients, pointCapacity, pointRefillPerSecond, scanCapacity, scanRefillPerSecond, System::nanoTime);
+    }
+
+    public RateLimiter(boolean enabled, int maxClients,
+                       int pointCapacity, double pointRefillPerSecond,
+                       int scanCapacity, double scanRefillPerSecond,
+                       LongSupplier nanoClock) {
+        if (maxClients <= 0) {
+            throw new IllegalArgumentException("maxClients must be positive");
+        }
+        this.enabled = enabled;
+        this.maxClients = maxClients;
+        this.clock = nanoClock;
+        limits.put(RateLimitTier.POINT, new Limit(pointCapacity, pointRefillPerSecond));
+        limits.put(RateLimitTier.SCAN, new Limit(scanCapacity, scanRefillPerSecond));
+    }
+
+    /**
+     * @return 0, jeśli żądanie może być obsłużone; w przeciwnym razie czas (ns) do kolejnego tokenu
+     */
+    public long tryAcquire(String clientKey, RateLimitTier tier) {
+        if (!enabled) {
+            return 0;
+        }
+        long now = clock.getAsLong();
+        String key = tier.name() + ':' + clientKey;
+        TokenBucket bucket = buckets.get(key);
+        if (bucket == null) {
+            if (buckets.size() >= maxClients) {
+                evict(now);
+            }
+            Limit limit = limits.get(tier);
+            bucket = buckets.computeIfAbsent(key, k -> new TokenBucket(limit.capacity, limit.refillPerSecond, now));
+        }
+        long waitNanos = bucket.tryAcquire(now);
+        if (waitNanos == 0) {
+            allowed.increment();
+        } else {
+            rejected.increment();
+        }
+        return waitNanos;
+    }
+
+    private void evict(long now) {
+        // jedno sprzątanie naraz; pozostałe wątki nie czekają
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            int target = maxClients - Math.max(1, maxClients / 10);
+            Iterator<TokenBucket> idle = buckets.values().iterator();
+            while (idle.hasNext()) {
+                if (idle.next().isFull(now)) {
+                    idle.remove();
+                    evictions.increment();
+                }
+            }
+            // nadal za dużo aktywnych klientów - usunięty klient dostanie nowy, pełny bucket
+            Iterator<String> any = buckets.keySet().iterator();
+            while (buckets.size() > target && any.hasNext()) {
+                any.next();
+                any.remove();
+                evictions.increment();
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("enabled", enabled);
+        metrics.put("allowed", allowed.sum());
+        metrics.put("rejected", rejected.sum());
+        metrics.put("trackedClients", buckets.size());
+        metrics.put("maxClients", maxClients);
+        metrics.put("evictions", evictions.sum());
+        return metrics;
+    }
+
+    private record Limit(int capacity, double refillPerSecond) {
+    }
+}
@@ -0,0 +1,90 @@
+package org.example.service;
+
+import org.example.model.Employee;
+import org.example.model.EmployeeChangeListener;
+import org.example.model.Position;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Histogramy pensji dla wszystkich pracowników, każdej firmy (nazwa małymi literami) i każdego stanowiska.
+ * Aktualizowane przyrostowo przy każdej zmianie w {@link EmployeeService}, więc percentyle
+ * i rozkład czyta się bez sortowania pensji.
+ */
+@Service
+public class SalaryDistributionIndex implements EmployeeChangeListener {
+    private final EmployeeService employeeService;
+    private final SalaryHistogram all = new SalaryHistogram();
+    private final Map<String, SalaryHistogram> byCompany = new ConcurrentHashMap<>();
+    private final Map<Position, SalaryHistogram> byPosition = new ConcurrentHashMap<>();
+
+    public SalaryDistributionIndex(EmployeeService employeeService) {
+        this.employeeService = employeeService;
+        employeeService.addIndexListener(this);
+    }
+
+    @Override
+    public void onEmployeeChanged(Employee before, Employee after) {
+        if (before != null) {
+            all.remove(before.getSalary());
+            if (before.getCompanyName() != null) {
+                remove(byCompany, before.getCompanyName().toLowerCase(), before.getSalary());
+            }
+            if (before.getPosition() != null) {
+                remove(byPosition, before.getPosition(), before.getSalary());
+            }
+        }
+        if (after != null) {
+            all.record(after.getSalary());
+            if (after.getCompanyName() != null) {
+                byCompany.computeIfAbsent(after.getCompanyName().toLowerCase(), k -> new SalaryHistogram())
+                        .record(after.getSalary());
+            }
+            if (after.getPosition() != null) {
+                byPosition.computeIfAbsent(after.getPosition(), k -> new SalaryHistogram()).record(after.getSalary());
+            }
+        }
+    }
+
+    @Override
+    public void onEmployeesReset() {
+        all.clear();
+        byCompany.clear();
+        byPosition.clear();
+        for (Employee e : employeeService.getEmployees()) {
+            if (e != null) {
+                onEmployeeChanged(null, e);
+            }
+        }
+    }
+
+    private static <K> void remove(Map<K, SalaryHistogram> groups, K key, double salary) {
+        SalaryHistogram histogram = groups.get(key);
+        if (histogram != null) {
+            histogram.remove(salary);
+            if (histogram.isEmpty()) {
+                groups.remove(key);
+            }
+        }
+    }
+
+    public SalaryHistogram all() {
+        return all;
+    }
+
+    /**
+     * @return histogram firmy (bez rozróżniania wielkości liter) albo null, jeśli firma nie ma pracowników
+     */
+    public SalaryHistogram company(String companyName) {
+        return byCompany.get(companyName.toLowerCase());
+    }
+
+    /**
+     * @return histogram stanowiska albo null, jeśli nikt go nie zajmuje
+     */
+    public SalaryHistogram position(Position position) {
+        return byPosition.get(position);
+    }
+}
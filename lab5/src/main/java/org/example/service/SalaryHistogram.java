@@ -0,0 +1,133 @@
+package org.example.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Histogram pensji w przedziałach logarytmiczno-liniowych (jak HdrHistogram): każda potęga dwójki
+ * dzielona jest na {@link #SUB_BUCKETS} równych części, więc szerokość przedziału to ok. 3% wartości.
+ * Przedziałów jest stała liczba, więc percentyl liczy się bez sortowania, niezależnie od liczby pracowników.
+ * Przechowywane są tylko niepuste przedziały, razem z sumą wartości - percentyl zwraca średnią
+ * wartości w przedziale, czyli dokładną pensję, gdy wszyscy w przedziale zarabiają tyle samo.
+ * Zapisy muszą być szeregowane przez wywołującego; odczyty mogą iść równolegle.
+ */
+public class SalaryHistogram {
+    static final int SUB_BUCKETS = 32;
+    static final int MAX_EXPONENT = 30;
+    // Wartości od 2^MAX_EXPONENT trafiają do osobnego przedziału [2^MAX_EXPONENT, +inf), za ostatnim regularnym
+    static final int OVERFLOW_INDEX = 1 + MAX_EXPONENT * SUB_BUCKETS;
+    static final int BUCKET_COUNT = OVERFLOW_INDEX + 1;
+
+    private final ConcurrentNavigableMap<Integer, Bin> bins = new ConcurrentSkipListMap<>();
+
+    public record Bucket(double from, double to, long count) {
+    }
+
+    private record Bin(long count, double sum) {
+    }
+
+    public void record(double salary) {
+        bins.merge(bucketIndex(salary), new Bin(1, salary), (a, b) -> new Bin(a.count + 1, a.sum + salary));
+    }
+
+    public void remove(double salary) {
+        bins.computeIfPresent(bucketIndex(salary),
+                (k, bin) -> bin.count == 1 ? null : new Bin(bin.count - 1, bin.sum - salary));
+    }
+
+    public void clear() {
+        bins.clear();
+    }
+
+    public boolean isEmpty() {
+        return bins.isEmpty();
+    }
+
+    public long count() {
+        long count = 0;
+        for (Bin bin : bins.values()) {
+            count += bin.count;
+        }
+        return count;
+    }
+
+    /**
+     * Percentyle metodą najbliższej rangi, w jednym przejściu po przedziałach.
+     *
+     * @param percentiles rosnąco, z zakresu (0, 100]
+     * @return wartości w tej samej kolejności; puste, gdy histogram jest pusty
+     */
+    public double[] percentiles(double... percentiles) {
+        List<Bin> snapshot = new ArrayList<>(bins.values());
+        long total = 0;
+        for (Bin bin : snapshot) {
+            total += bin.count;
+        }
+        if (total == 0) {
+            return new double[0];
+        }
+        double[] result = new double[percentiles.length];
+        int next = 0;
+        long cumulative = 0;
+        for (Bin bin : snapshot) {
+            cumulative += bin.count;
+            while (next < percentiles.length && cumulative >= rank(percentiles[next], total)) {
+                result[next++] = bin.sum / bin.count;
+            }
+        }
+        return result;
+    }
+
+    private static long rank(double percentile, long total) {
+        if (percentile <= 0 || percentile > 100) {
+            throw new IllegalArgumentException("percentile must be in (0, 100]");
+        }
+        return Math.max(1, (long) Math.ceil(percentile / 100.0 * total));
+    }
+
+    /**
+     * Niepuste przedziały rosnąco, jako [from, to); przedział przepełnienia ma {@code to} równe +inf.
+     */
+    public List<Bucket> buckets() {
+        List<Bucket> buckets = new ArrayList<>();
+        for (Map.Entry<Integer, Bin> entry : bins.entrySet()) {
+            int index = entry.getKey();
+            buckets.add(new Bucket(lowerBound(index), upperBound(index), entry.getValue().count));
+        }
+        return buckets;
+    }
+
+    static int bucketIndex(double salary) {
+        if (!(salary >= 1)) {
+            return 0;
+        }
+        int exponent = Math.getExponent(salary);
+        if (exponent >= MAX_EXPONENT) {
+            return OVERFLOW_INDEX;
+        }
+        int sub = (int) ((salary / Math.scalb(1.0, exponent) - 1) * SUB_BUCKETS);
+        return 1 + exponent * SUB_BUCKETS + sub;
+    }
+
+    static double lowerBound(int index) {
+        if (index == 0) {
+            return 0;
+        }
+        if (index == OVERFLOW_INDEX) {
+            return Math.scalb(1.0, MAX_EXPONENT);
+        }
+        int exponent = (index - 1) / SUB_BUCKETS;
+        int sub = (index - 1) % SUB_BUCKETS;
+        return Math.scalb(1.0 + (double) sub / SUB_BUCKETS, exponent);
+    }
+
+    static double upperBound(int index) {
+        if (index == OVERFLOW_INDEX) {
+            return Double.POSITIVE_INFINITY;
+        }
+        return index == 0 ? 1 : lowerBound(index + 1);
+    }
+}
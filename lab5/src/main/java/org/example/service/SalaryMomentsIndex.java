@@ -0,0 +1,125 @@
+package org.example.service;
+
+import org.example.enums.EmploymentStatus;
+import org.example.model.Employee;
+import org.example.model.EmployeeChangeListener;
+import org.example.model.Position;
+import org.example.model.SalaryMoments;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Momenty pensji ({@link SalaryMoments}) dla każdej firmy (nazwa małymi literami), stanowiska i statusu,
+ * aktualizowane przyrostowo przy każdej zmianie w {@link EmployeeService}. Odczyt kosztuje O(liczba grup).
+ * Pracownicy bez statusu nie należą do żadnej grupy statusu.
+ */
+@Service
+public class SalaryMomentsIndex implements EmployeeChangeListener {
+    private final EmployeeService employeeService;
+    private final Map<String, Group> byCompany = new ConcurrentHashMap<>();
+    private final Map<Position, Group> byPosition = new ConcurrentHashMap<>();
+    private final Map<EmploymentStatus, Group> byStatus = new ConcurrentHashMap<>();
+
+    /**
+     * Zapisy szeregowane przez blokadę {@link EmployeeService}; czytelnicy widzą tylko {@code moments}.
+     */
+    private static final class Group {
+        // pensja -> liczba pracowników, dla min/max po usunięciu
+        private final TreeMap<Double, Integer> salaries = new TreeMap<>();
+        private volatile SalaryMoments moments = SalaryMoments.EMPTY;
+
+        void add(double salary) {
+            salaries.merge(salary, 1, Integer::sum);
+            moments = moments.add(salary);
+        }
+
+        void remove(double salary) {
+            if (!salaries.containsKey(salary)) {
+                return;
+            }
+            salaries.computeIfPresent(salary, (k, c) -> c == 1 ? null : c - 1);
+            moments = salaries.isEmpty()
+                    ? SalaryMoments.EMPTY
+                    : moments.remove(salary, salaries.firstKey(), salaries.lastKey());
+        }
+    }
+
+    public SalaryMomentsIndex(EmployeeService employeeService) {
+        this.employeeService = employeeService;
+        employeeService.addIndexListener(this);
+    }
+
+    @Override
+    public void onEmployeeChanged(Employee before, Employee after) {
+        if (before != null) {
+            double salary = before.getSalary();
+            if (before.getCompanyName() != null) {
+                remove(byCompany, before.getCompanyName().toLowerCase(), salary);
+            }
+            remove(byPosition, before.getPosition(), salary);
+            remove(byStatus, before.getStatus(), salary);
+        }
+        if (after != null) {
+            double salary = after.getSalary();
+            if (after.getCompanyName() != null) {
+                add(byCompany, after.getCompanyName().toLowerCase(), salary);
+            }
+            add(byPosition, after.getPosition(), salary);
+            add(byStatus, after.getStatus(), salary);
+        }
+    }
+
+    @Override
+    public void onEmployeesReset() {
+        byCompany.clear();
+        byPosition.clear();
+        byStatus.clear();
+        for (Employee e : employeeService.getEmployees()) {
+            if (e != null) {
+                onEmployeeChanged(null, e);
+            }
+        }
+    }
+
+    private static <K> void add(Map<K, Group> groups, K key, double salary) {
+        if (key != null) {
+            groups.computeIfAbsent(key, k -> new Group()).add(salary);
+        }
+    }
+
+    private static <K> void remove(Map<K, Group> groups, K key, double salary) {
+        Group group = key != null ? groups.get(key) : null;
+        if (group != null) {
+            group.remove(salary);
+            if (group.salaries.isEmpty()) {
+                groups.remove(key);
+            }
+        }
+    }
+
+    public Map<String, SalaryMoments> byCompany() {
+        return snapshot(byCompany);
+    }
+
+    public Map<Position, SalaryMoments> byPosition() {
+        return snapshot(byPosition);
+    }
+
+    public Map<EmploymentStatus, SalaryMoments> byStatus() {
+        return snapshot(byStatus);
+    }
+
+    private static <K extends Comparable<K>> Map<K, SalaryMoments> snapshot(Map<K, Group> groups) {
+        Map<K, SalaryMoments> result = new TreeMap<>();
+        for (Map.Entry<K, Group> entry : groups.entrySet()) {
+            SalaryMoments moments = entry.getValue().moments;
+            if (moments.getCount() > 0) {
+                result.put(entry.getKey(), moments);
+            }
+        }
+        return result;
+    }
+}
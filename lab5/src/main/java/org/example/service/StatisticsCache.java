@@ -0,0 +1,213 @@
+package org.example.service;
+
+import org.example.model.Employee;
+import org.example.model.EmployeeChangeListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * Pamięć podręczna wyników statystyk (LRU o ograniczonym rozmiarze).
+ * Każdy wpis deklaruje, od czego zależy (tagi), a zmiany w {@link EmployeeService}
+ * usuwają tylko wpisy, których dotyczą - np. zmiana pensji w firmie A nie czyści statystyk firmy B.
+ */
+@Service
+public class StatisticsCache implements EmployeeChangeListener {
+    public static final String SALARIES = "salaries";
+    public static final String POSITIONS = "positions";
+    public static final String STATUS = "status";
+
+    private final int maxEntries;
+    private final LinkedHashMap<String, Entry> entries;
+    // Obliczenia w toku - kolejni pytający o ten sam klucz dostają ten sam wynik
+    private final Map<String, CompletableFuture<Object>> inFlight = new HashMap<>();
+    // Zwiększana przy każdej invalidacji - wynik policzony na starych danych nie trafi do cache
+    private long generation;
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long invalidations;
+    private long coalesced;
+
+    public StatisticsCache(EmployeeService employeeService,
+                           @Value("${app.statistics.cache.max-entries:256}") int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be positive");
+        }
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() > StatisticsCache.this.maxEntries) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+        employeeService.addChangeListener(this);
+    }
+
+    public static String companyTag(String companyName) {
+        return "company:" + (companyName == null ? "" : companyName.toLowerCase());
+    }
+
+    /**
+     * Zwraca wynik z cache albo liczy go przez {@code loader} (poza blokadą) i zapamiętuje.
+     * Równoczesne chybienia na ten sam klucz czekają na jedno wspólne obliczenie.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String key, Set<String> dependencies, Supplier<T> loader) {
+        long loadGeneration;
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> leader;
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                hits++;
+                return (T) entry.value;
+            }
+            misses++;
+            loadGeneration = generation;
+            leader = inFlight.putIfAbsent(key, flight);
+            if (leader != null) {
+                coalesced++;
+            }
+        }
+        if (leader != null) {
+            return (T) await(leader);
+        }
+
+        T value;
+        try {
+            value = loader.get();
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            synchronized (this) {
+                inFlight.remove(key, flight);
+            }
+        }
+        flight.complete(value);
+        synchronized (this) {
+            if (loadGeneration == generation) {
+                entries.put(key, new Entry(value, dependencies));
+            }
+        }
+        return value;
+    }
+
+    private static Object await(CompletableFuture<Object> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void onEmployeeChanged(Employee before, Employee after) {
+        invalidate(affectedTags(before, after));
+    }
+
+    @Override
+    public void onEmployeesReset() {
+        clear();
+    }
+
+    public synchronized void invalidate(Set<String> tags) {
+        if (tags.isEmpty()) {
+            return;
+        }
+        generation++;
+        inFlight.clear();
+        Iterator<Entry> it = entries.values().iterator();
+        while (it.hasNext()) {
+            Entry entry = it.next();
+            for (String tag : entry.dependencies) {
+                if (tags.contains(tag)) {
+                    it.remove();
+                    invalidations++;
+                    break;
+                }
+            }
+        }
+    }
+
+    public synchronized void clear() {
+        generation++;
+        inFlight.clear();
+        invalidations += entries.size();
+        entries.clear();
+    }
+
+    public synchronized Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        long requests = hits + misses;
+        metrics.put("hits", hits);
+        metrics.put("misses", misses);
+        metrics.put("hitRate", requests == 0 ? 0.0 : (double) hits / requests);
+        metrics.put("evictions", evictions);
+        metrics.put("invalidations", invalidations);
+        metrics.put("coalesced", coalesced);
+        metrics.put("inFlight", inFlight.size());
+        metrics.put("size", entries.size());
+        metrics.put("maxEntries", maxEntries);
+        return metrics;
+    }
+
+    static Set<String> affectedTags(Employee before, Employee after) {
+        Set<String> tags = new HashSet<>();
+        if (before == null || after == null) {
+            Employee e = before != null ? before : after;
+            tags.add(SALARIES);
+            tags.add(POSITIONS);
+            tags.add(STATUS);
+            tags.add(companyTag(e.getCompanyName()));
+            return tags;
+        }
+        String companyBefore = companyTag(before.getCompanyName());
+        String companyAfter = companyTag(after.getCompanyName());
+        if (Double.compare(before.getSalary(), after.getSalary()) != 0) {
+            tags.add(SALARIES);
+            tags.add(companyBefore);
+            tags.add(companyAfter);
+        }
+        if (!companyBefore.equals(companyAfter)) {
+            tags.add(companyBefore);
+            tags.add(companyAfter);
+        }
+        if (before.getPosition() != after.getPosition()) {
+            tags.add(POSITIONS);
+        }
+        if (before.getStatus() != after.getStatus()) {
+            tags.add(STATUS);
+        }
+        // imię i nazwisko są częścią statystyk firmy (najlepiej zarabiający)
+        if (!Objects.equals(before.getName(), after.getName())
+                || !Objects.equals(before.getSurname(), after.getSurname())) {
+            tags.add(companyAfter);
+        }
+        return tags;
+    }
+
+    private record Entry(Object value, Set<String> dependencies) {
+    }
+}
@@ -0,0 +1,50 @@
+package org.example.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bezblokadowy token bucket w wariancie GCRA: cały stan to jeden {@link AtomicLong}
+ * z teoretycznym czasem następnego żądania (TAT), aktualizowany przez CAS.
+ * Pojemność {@code capacity} żądań naraz, uzupełnianie {@code refillPerSecond} żądań na sekundę.
+ */
+public class TokenBucket {
+    private final long emissionIntervalNanos;
+    private final long burstNanos;
+    private final AtomicLong theoreticalArrival;
+
+    public TokenBucket(int capacity, double refillPerSecond, long nowNanos) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        if (refillPerSecond <= 0) {
+            throw new IllegalArgumentException("refillPerSecond must be positive");
+        }
+        this.emissionIntervalNanos = Math.max(1, (long) (1_000_000_000L / refillPerSecond));
+        this.burstNanos = emissionIntervalNanos * capacity;
+        this.theoreticalArrival = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * @return 0, jeśli token został pobrany; w przeciwnym razie czas (ns) do pojawienia się tokenu
+     */
+    public long tryAcquire(long nowNanos) {
+        while (true) {
+            long tat = theoreticalArrival.get();
+            long newTat = Math.max(tat, nowNanos) + emissionIntervalNanos;
+            long waitNanos = newTat - nowNanos - burstNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (theoreticalArrival.compareAndSet(tat, newTat)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Pełny bucket - klient nic nie zużył przez czas pełnego uzupełnienia, więc wpis można usunąć.
+     */
+    public boolean isFull(long nowNanos) {
+        return theoreticalArrival.get() <= nowNanos;
+    }
+}
@@ -0,0 +1,127 @@
+package org.example.benchmark;
+
+import com.sun.management.OperatingSystemMXBean;
+import org.example.EmployeeManagementApplication;
+import org.example.model.Employee;
+import org.example.model.Position;
+import org.example.service.EmployeeService;
+import org.example.support.StubApiServer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Wpływ kompresji gzip (server.compression.*) na rozmiar przesyłanych danych, czas odpowiedzi
+ * i zużycie CPU dla dużych listingów i eksportu NDJSON.
+ * Klient nie dekompresuje odpowiedzi, więc liczone są bajty faktycznie przesłane; test sprawdza,
+ * że z gzip każdy endpoint przesyła mniej bajtów na odpowiedź niż bez kompresji.
+ * Uruchomienie: ./gradlew benchmark
+ */
+@Tag("benchmark")
+public class CompressionBenchmarkTest {
+
+    private static final int EMPLOYEES = 100_000;
+    private static final int ROUNDS = 30;
+    private static final String[] ENDPOINTS = {
+            "/api/employees?limit=1000",
+            "/api/employees/export"
+    };
+
+    @Test
+    void compareCompressedAndUncompressedResponses() throws Exception {
+        try (StubApiServer stub = new StubApiServer()) {
+            System.out.printf("%-12s %-28s %14s %10s %10s %14s%n",
+                    "compression", "endpoint", "bytes/resp", "p50 ms", "p99 ms", "CPU ms/resp");
+            Map<String, Long> uncompressed = run(false, stub);
+            Map<String, Long> compressed = run(true, stub);
+
+            for (String endpoint : ENDPOINTS) {
+                assertThat(compressed.get(endpoint)).as("gzip bytes/resp for " + endpoint)
+                        .isLessThan(uncompressed.get(endpoint));
+            }
+        }
+    }
+
+    private Map<String, Long> run(boolean compression, StubApiServer stub) throws Exception {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(EmployeeManagementApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=WARN",
+                        "server.compression.enabled=" + compression,
+                        "app.api.url=" + stub.url(),
+                        "app.api.sync.enabled=false",
+                        "app.rate-limit.enabled=false")
+                .run();
+        try {
+            seed(context.getBean(EmployeeService.class));
+            int port = Integer.parseInt(context.getEnvironment().getProperty("local.server.port"));
+            HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+            OperatingSystemMXBean os = (OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean();
+            Map<String, Long> bytesPerResponse = new LinkedHashMap<>();
+
+            for (String endpoint : ENDPOINTS) {
+                HttpRequest request = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + port + endpoint))
+                        .header("Accept-Encoding", "gzip")
+                        .GET()
+                        .build();
+                for (int i = 0; i < ROUNDS / 3; i++) {
+                    client.send(request, HttpResponse.BodyHandlers.discarding());
+                }
+
+                long[] latencies = new long[ROUNDS];
+                long bytes = 0;
+                long cpuStart = os.getProcessCpuTime();
+                for (int i = 0; i < ROUNDS; i++) {
+                    long t0 = System.nanoTime();
+                    HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+                    latencies[i] = System.nanoTime() - t0;
+                    assertThat(response.statusCode()).isEqualTo(200);
+                    assertThat(response.headers().firstValue("Content-Encoding").isPresent()).isEqualTo(compression);
+                    bytes += response.body().length;
+                }
+                long cpu = os.getProcessCpuTime() - cpuStart;
+
+                System.out.printf("%-12s %-28s %14d %10.1f %10.1f %14.2f%n",
+                        compression ? "gzip" : "off", endpoint, bytes / ROUNDS,
+                        percentile(latencies, 50) / 1e6, percentile(latencies, 99) / 1e6,
+                        cpu / 1e6 / ROUNDS);
+                bytesPerResponse.put(endpoint, bytes / ROUNDS);
+            }
+            return bytesPerResponse;
+        } finally {
+            context.close();
+        }
+    }
+
+    private static void seed(EmployeeService employeeService) {
+        Position[] positions = Position.values();
+        List<Employee> employees = new ArrayList<>(EMPLOYEES);
+        for (int i = 0; i < EMPLOYEES; i++) {
+            employees.add(new Employee("Name" + i, "Surname" + i, "user" + i + "@example.com",
+                    "Company" + (i % 50), positions[i % positions.length]));
+        }
+        employeeService.addEmployees(employees);
+    }
+
+    private static long percentile(long[] values, int percentile) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, index)];
+    }
+}
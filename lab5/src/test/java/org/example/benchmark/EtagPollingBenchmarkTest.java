@@ -0,0 +1,90 @@
+package org.example.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.controller.EmployeeController;
+import org.example.controller.StatisticsController;
+import org.example.model.Employee;
+import org.example.model.Position;
+import org.example.service.EmployeeService;
+import org.example.service.StatisticsCache;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Symuluje dashboard odpytujący co chwilę te same endpointy przy niezmienionych danych
+ * i porównuje czas CPU serwera bez i z nagłówkiem If-None-Match. Test sprawdza, że odpowiedź 304
+ * nie przesyła treści, którą pełna odpowiedź zawiera.
+ * Uruchomienie: ./gradlew benchmark
+ */
+@Tag("benchmark")
+public class EtagPollingBenchmarkTest {
+
+    private static final int EMPLOYEES = 50_000;
+    private static final int POLLS = 300;
+    private static final String[] ENDPOINTS = {
+            "/api/employees?limit=1000",
+            "/api/statistics/positions",
+            "/api/statistics/company/Company7"
+    };
+
+    @Test
+    void compareCpuTimeWithAndWithoutETag() throws Exception {
+        Employee[] employees = new Employee[EMPLOYEES];
+        Position[] positions = Position.values();
+        for (int i = 0; i < EMPLOYEES; i++) {
+            employees[i] = new Employee("Name" + i, "Surname" + i, "user" + i + "@example.com",
+                    "Company" + (i % 50), positions[i % positions.length]);
+        }
+        EmployeeService employeeService = new EmployeeService(employees);
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(
+                new EmployeeController(employeeService, new ObjectMapper()),
+                new StatisticsController(employeeService, new StatisticsCache(employeeService, 256))).build();
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+        System.out.printf("%-36s %12s %16s %16s %10s%n",
+                "endpoint", "full bytes", "full (ms CPU)", "304 (ms CPU)", "speedup");
+        for (String endpoint : ENDPOINTS) {
+            MockHttpServletResponse full = mockMvc.perform(get(endpoint)).andReturn().getResponse();
+            String etag = full.getHeader("ETag");
+            assertThat(etag).isNotNull();
+            MockHttpServletResponse notModified = mockMvc.perform(get(endpoint).header("If-None-Match", etag))
+                    .andReturn().getResponse();
+            assertThat(notModified.getStatus()).isEqualTo(304);
+            assertThat(notModified.getContentAsByteArray()).isEmpty();
+            assertThat(full.getContentAsByteArray()).isNotEmpty();
+
+            // rozgrzewka
+            poll(mockMvc, endpoint, null, POLLS / 3);
+            poll(mockMvc, endpoint, etag, POLLS / 3);
+
+            long fullStart = threads.getCurrentThreadCpuTime();
+            poll(mockMvc, endpoint, null, POLLS);
+            long fullCpu = threads.getCurrentThreadCpuTime() - fullStart;
+
+            long cachedStart = threads.getCurrentThreadCpuTime();
+            poll(mockMvc, endpoint, etag, POLLS);
+            long cachedCpu = threads.getCurrentThreadCpuTime() - cachedStart;
+
+            System.out.printf("%-36s %12d %16.1f %16.1f %9.1fx%n", endpoint,
+                    full.getContentAsByteArray().length, fullCpu / 1e6, cachedCpu / 1e6, (double) fullCpu / Math.max(1, cachedCpu));
+        }
+    }
+
+    private void poll(MockMvc mockMvc, String endpoint, String etag, int times) throws Exception {
+        for (int i = 0; i < times; i++) {
+            int status = etag == null
+                    ? mockMvc.perform(get(endpoint)).andReturn().getResponse().getStatus()
+                    : mockMvc.perform(get(endpoint).header("If-None-Match", etag)).andReturn().getResponse().getStatus();
+            assertThat(status).isEqualTo(etag == null ? 200 : 304);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package org.example.benchmark;
+
+import com.google.gson.Gson;
+import org.example.config.HttpClientConfig;
+import org.example.service.ApiService;
+import org.example.support.StubApiServer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Porównuje domyślny HttpClient z klientem skonfigurowanym przez {@link HttpClientConfig}
+ * przy wielu równoległych wywołaniach {@link ApiService} do lokalnego serwera.
+ * Serwer testowy mówi tylko HTTP/1.1 bez TLS (HTTP/2 wymaga TLS albo h2c), więc porównanie
+ * obejmuje pulę połączeń i executor, nie wersję protokołu. Test sprawdza, że skonfigurowany klient
+ * utrzymuje połączenia (nie więcej niż jedno na wywołującego) i nie wychodzi poza rozmiar swojej puli.
+ * Uruchomienie: ./gradlew benchmark
+ */
+@Tag("benchmark")
+public class HttpClientBenchmarkTest {
+
+    private static final int CALLERS = 64;
+    private static final int REQUESTS = 4000;
+    private static final int WARMUP_REQUESTS = 1000;
+    private static final long UPSTREAM_LATENCY_MS = 5;
+    private static final int CLIENT_THREADS = 16;
+
+    @Test
+    void compareHttpClientConfigurations() throws Exception {
+        try (StubApiServer stub = new StubApiServer(CALLERS).withLatency(UPSTREAM_LATENCY_MS)) {
+            System.out.printf("%-24s %12s %10s %10s %10s %12s%n",
+                    "client", "req/s", "p50 ms", "p99 ms", "errors", "connections");
+
+            run("default newHttpClient()", HttpClient.newHttpClient(), null, stub);
+
+            ThreadPoolExecutor bounded = (ThreadPoolExecutor) HttpClientConfig.createExecutor("bounded", CLIENT_THREADS, 256);
+            int connections = run("tuned HTTP/1.1 bounded", HttpClientConfig.createHttpClient(
+                    Duration.ofSeconds(2), HttpClient.Version.HTTP_1_1, bounded), bounded, stub);
+
+            assertThat(connections).as("connections opened by the tuned client").isLessThanOrEqualTo(CALLERS);
+            assertThat(bounded.getCompletedTaskCount()).as("tasks run on the dedicated executor").isPositive();
+            assertThat(bounded.getLargestPoolSize()).isLessThanOrEqualTo(CLIENT_THREADS);
+        }
+    }
+
+    private int run(String name, HttpClient client, ExecutorService clientExecutor, StubApiServer stub) throws Exception {
+        stub.resetConnectionCount();
+        ApiService apiService = new ApiService(client, new Gson(), stub.url(), 5000, 1, 1, 1, 1000, 1000);
+
+        execute(apiService, WARMUP_REQUESTS);
+        Result result = execute(apiService, REQUESTS);
+
+        System.out.printf("%-24s %12.0f %10.2f %10.2f %10d %12d%n", name,
+                REQUESTS / (result.elapsedNanos / 1e9),
+                percentile(result.latencies, 50) / 1e6,
+                percentile(result.latencies, 99) / 1e6,
+                result.errors,
+                stub.getConnectionCount());
+        assertThat(result.errors).isZero();
+
+        if (clientExecutor != null) {
+            clientExecutor.shutdown();
+        }
+        return stub.getConnectionCount();
+    }
+
+    private Result execute(ApiService apiService, int requests) throws InterruptedException {
+        ExecutorService callers = Executors.newFixedThreadPool(CALLERS);
+        long[] latencies = new long[requests];
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(CALLERS);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < CALLERS; i++) {
+            callers.execute(() -> {
+                int index;
+                while ((index = next.getAndIncrement()) < requests) {
+                    long t0 = System.nanoTime();
+                    try {
+                        apiService.fetchEmployeesFromApi();
+                    } catch (RuntimeException e) {
+                        errors.incrementAndGet();
+                    }
+                    latencies[index] = System.nanoTime() - t0;
+                }
+                done.countDown();
+            });
+        }
+        assertThat(done.await(5, TimeUnit.MINUTES)).as("all callers finished").isTrue();
+        long elapsed = System.nanoTime() - start;
+        callers.shutdown();
+        return new Result(latencies, elapsed, errors.get());
+    }
+
+    private static long percentile(long[] values, int percentile) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, index)];
+    }
+
+    private record Result(long[] latencies, long elapsedNanos, int errors) {
+    }
+}
@@ -0,0 +1,158 @@
+package org.example.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.EmployeeManagementApplication;
+import org.example.model.Employee;
+import org.example.model.Position;
+import org.example.service.EmployeeService;
+import org.example.support.StubApiServer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.reactive.context.ReactiveWebServerApplicationContext;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Porównuje opóźnienia tych samych endpointów na stosie MVC (Tomcat) i WebFlux (Netty)
+ * przy wielu równoczesnych klientach, na tym samym magazynie pracowników. Test sprawdza, że każdy
+ * przebieg faktycznie działa na swoim stosie i że oba stosy zwracają te same dane.
+ * Uruchomienie: ./gradlew benchmark
+ */
+@Tag("benchmark")
+public class MvcVsWebFluxLatencyTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final int EMPLOYEES = 20_000;
+    private static final int CLIENTS = 500;
+    private static final int REQUESTS = 20_000;
+    private static final String[] ENDPOINTS = {
+            "/api/employees?limit=1000",
+            "/api/statistics/positions",
+            "/api/employees/user7@example.com"
+    };
+
+    @Test
+    void compareServletAndReactiveStacks() throws Exception {
+        try (StubApiServer stub = new StubApiServer()) {
+            System.out.printf("%-10s %-36s %10s %10s %10s%n", "stack", "endpoint", "req/s", "p50 ms", "p99 ms");
+            Map<String, JsonNode> servlet = run("servlet", stub);
+            Map<String, JsonNode> reactive = run("reactive", stub);
+
+            for (String endpoint : ENDPOINTS) {
+                assertThat(reactive.get(endpoint)).as("reactive body of " + endpoint).isEqualTo(servlet.get(endpoint));
+            }
+        }
+    }
+
+    private Map<String, JsonNode> run(String stack, StubApiServer stub) throws Exception {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(EmployeeManagementApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=WARN",
+                        "spring.main.web-application-type=" + stack,
+                        "app.api.url=" + stub.url(),
+                        "app.api.sync.enabled=false",
+                        "app.rate-limit.enabled=false")
+                .run();
+        try {
+            assertThat(context).isInstanceOf(stack.equals("reactive")
+                    ? ReactiveWebServerApplicationContext.class
+                    : ServletWebServerApplicationContext.class);
+            seed(context.getBean(EmployeeService.class));
+            int port = Integer.parseInt(context.getEnvironment().getProperty("local.server.port"));
+            HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+            Map<String, JsonNode> bodies = new LinkedHashMap<>();
+            for (String endpoint : ENDPOINTS) {
+                URI uri = URI.create("http://127.0.0.1:" + port + endpoint);
+                HttpResponse<String> response = client.send(HttpRequest.newBuilder(uri).GET().build(),
+                        HttpResponse.BodyHandlers.ofString());
+                assertThat(response.statusCode()).isEqualTo(200);
+                bodies.put(endpoint, MAPPER.readTree(response.body()));
+
+                execute(client, uri, REQUESTS / 4);
+                Result result = execute(client, uri, REQUESTS);
+                System.out.printf("%-10s %-36s %10.0f %10.2f %10.2f%n", stack, endpoint,
+                        REQUESTS / (result.elapsedNanos / 1e9),
+                        percentile(result.latencies, 50) / 1e6,
+                        percentile(result.latencies, 99) / 1e6);
+                assertThat(result.errors).isZero();
+            }
+            return bodies;
+        } finally {
+            context.close();
+        }
+    }
+
+    private static void seed(EmployeeService employeeService) {
+        Position[] positions = Position.values();
+        List<Employee> employees = new ArrayList<>(EMPLOYEES);
+        for (int i = 0; i < EMPLOYEES; i++) {
+            employees.add(new Employee("Name" + i, "Surname" + i, "user" + i + "@example.com",
+                    "Company" + (i % 50), positions[i % positions.length]));
+        }
+        employeeService.addEmployees(employees);
+    }
+
+    private Result execute(HttpClient client, URI uri, int requests) throws InterruptedException {
+        long[] latencies = new long[requests];
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(CLIENTS);
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(30)).GET().build();
+
+        try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            long start = System.nanoTime();
+            for (int i = 0; i < CLIENTS; i++) {
+                callers.execute(() -> {
+                    int index;
+                    while ((index = next.getAndIncrement()) < requests) {
+                        long t0 = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != 200) {
+                                errors.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                        latencies[index] = System.nanoTime() - t0;
+                    }
+                    done.countDown();
+                });
+            }
+            assertThat(done.await(5, TimeUnit.MINUTES)).as("all clients finished").isTrue();
+            return new Result(latencies, System.nanoTime() - start, errors.get());
+        }
+    }
+
+    private static long percentile(long[] values, int percentile) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, index)];
+    }
+
+    private record Result(long[] latencies, long elapsedNanos, int errors) {
+    }
+}
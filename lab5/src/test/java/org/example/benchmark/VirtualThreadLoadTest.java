@@ -0,0 +1,178 @@
+package org.example.benchmark;
+
+import com.google.gson.Gson;
+import org.example.config.HttpClientConfig;
+import org.example.service.ApiService;
+import org.example.support.StubApiServer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test obciążeniowy: wiele równoczesnych żądań do endpointu, który blokuje się na wywołaniu
+ * {@link ApiService} (zewnętrzne API z opóźnieniem). Porównuje Tomcata na puli wątków platformowych
+ * z trybem {@code spring.threads.virtual.enabled=true}. Sprawdza, że pula platformowa ogranicza liczbę
+ * równoczesnych żądań do {@link #PLATFORM_MAX_THREADS}, a na wątkach wirtualnych ten limit znika.
+ * Uruchomienie: ./gradlew benchmark
+ */
+@Tag("benchmark")
+public class VirtualThreadLoadTest {
+
+    private static final int CLIENTS = 1000;
+    private static final int REQUESTS_PER_CLIENT = 5;
+    private static final long UPSTREAM_LATENCY_MS = 100;
+    // server.tomcat.threads.max; w trybie wirtualnym Tomcat go nie stosuje
+    private static final int PLATFORM_MAX_THREADS = 200;
+
+    @Test
+    void comparePlatformAndVirtualThreadModes() throws Exception {
+        try (StubApiServer stub = new StubApiServer(CLIENTS).withLatency(UPSTREAM_LATENCY_MS)) {
+            System.out.printf("%-28s %14s %10s %10s %10s %10s%n",
+                    "mode", "max in-flight", "req/s", "p50 ms", "p99 ms", "errors");
+            int platformPeak = run("platform threads (max " + PLATFORM_MAX_THREADS + ")", false, stub);
+            int virtualPeak = run("virtual threads", true, stub);
+
+            assertThat(platformPeak).isLessThanOrEqualTo(PLATFORM_MAX_THREADS);
+            assertThat(virtualPeak).as("peak in-flight on virtual threads").isGreaterThan(PLATFORM_MAX_THREADS);
+        }
+    }
+
+    private int run(String name, boolean virtual, StubApiServer stub) throws Exception {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(LoadTestApplication.class)
+                .web(WebApplicationType.SERVLET)
+                .properties(
+                        "server.port=0",
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=WARN",
+                        "server.tomcat.threads.max=" + PLATFORM_MAX_THREADS,
+                        "spring.threads.virtual.enabled=" + virtual,
+                        "load-test.upstream-url=" + stub.url())
+                .run();
+        try {
+            int port = Integer.parseInt(context.getEnvironment().getProperty("local.server.port"));
+            BlockingEndpoint endpoint = context.getBean(BlockingEndpoint.class);
+            Result result = execute(URI.create("http://127.0.0.1:" + port + "/load/upstream"));
+
+            System.out.printf("%-28s %14d %10.0f %10.1f %10.1f %10d%n", name,
+                    endpoint.peakInFlight.get(),
+                    result.latencies.length / (result.elapsedNanos / 1e9),
+                    percentile(result.latencies, 50) / 1e6,
+                    percentile(result.latencies, 99) / 1e6,
+                    result.errors);
+            assertThat(result.errors).isZero();
+            return endpoint.peakInFlight.get();
+        } finally {
+            context.close();
+        }
+    }
+
+    private Result execute(URI uri) throws InterruptedException {
+        int requests = CLIENTS * REQUESTS_PER_CLIENT;
+        long[] latencies = new long[requests];
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(CLIENTS);
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(60)).GET().build();
+
+        // klienci na wątkach wirtualnych, żeby generator obciążenia sam nie był wąskim gardłem
+        try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            long start = System.nanoTime();
+            for (int i = 0; i < CLIENTS; i++) {
+                callers.execute(() -> {
+                    int index;
+                    while ((index = next.getAndIncrement()) < requests) {
+                        long t0 = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != 200) {
+                                errors.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                        latencies[index] = System.nanoTime() - t0;
+                    }
+                    done.countDown();
+                });
+            }
+            assertThat(done.await(5, TimeUnit.MINUTES)).as("all clients finished").isTrue();
+            return new Result(latencies, System.nanoTime() - start, errors.get());
+        }
+    }
+
+    private static long percentile(long[] values, int percentile) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, index)];
+    }
+
+    private record Result(long[] latencies, long elapsedNanos, int errors) {
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    static class LoadTestApplication {
+
+        @Bean
+        ApiService apiService(@Value("${load-test.upstream-url}") String url,
+                              @Value("${spring.threads.virtual.enabled}") boolean virtual) {
+            // kolejka na wszystkich klientów - w trybie platformowym ograniczeniem ma być pula Tomcata, nie executor
+            ExecutorService executor = HttpClientConfig.createExecutor(virtual ? "virtual" : "bounded", 16, CLIENTS * 4);
+            HttpClient client = HttpClientConfig.createHttpClient(Duration.ofSeconds(5), HttpClient.Version.HTTP_1_1, executor);
+            return new ApiService(client, new Gson(), url, 30_000, 1, 1, 1, Integer.MAX_VALUE, 1000);
+        }
+
+        @Bean
+        BlockingEndpoint blockingEndpoint(ApiService apiService) {
+            return new BlockingEndpoint(apiService);
+        }
+    }
+
+    @RestController
+    static class BlockingEndpoint {
+        private final ApiService apiService;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger peakInFlight = new AtomicInteger();
+
+        BlockingEndpoint(ApiService apiService) {
+            this.apiService = apiService;
+        }
+
+        @GetMapping("/load/upstream")
+        int callUpstream() {
+            peakInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                return apiService.fetchEmployeesFromApi().size();
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.config;
+
+import org.example.service.RateLimiter;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class RateLimitInterceptorTest {
+
+    private final RateLimiter rateLimiter = new RateLimiter(true, 10, 10, 1, 10, 1);
+
+    @Test
+    void clientKey_ignoresHeaderUnlessConfigured() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr("10.0.0.1");
+        request.addHeader("X-Client-Id", "rotated-1");
+
+        assertEquals("ip:10.0.0.1", new RateLimitInterceptor(rateLimiter, "").clientKey(request));
+        assertEquals("client:rotated-1", new RateLimitInterceptor(rateLimiter, "X-Client-Id").clientKey(request));
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.controller;
+
+import org.example.exception.InvalidDataException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EmployeeChangeFeedControllerTest {
+
+    @Test
+    void startSequence_reconnectPrefersLastEventIdOverSince() {
+        // EventSource otworzył /changes?since=5, dostał zdarzenia do 12 i wznawia połączenie
+        assertEquals(12, EmployeeChangeFeedController.startSequence("12", 5L, 40));
+    }
+
+    @Test
+    void startSequence_firstConnection() {
+        assertEquals(5, EmployeeChangeFeedController.startSequence(null, 5L, 40));
+        assertEquals(40, EmployeeChangeFeedController.startSequence(" ", null, 40));
+        assertThrows(InvalidDataException.class, () -> EmployeeChangeFeedController.startSequence("abc", null, 40));
+    }
+}
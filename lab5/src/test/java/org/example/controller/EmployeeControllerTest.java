@@ -1,21 +1,31 @@
 package org.example.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
 import org.example.dto.EmployeeDTO;
+import org.example.dto.StatusChangeDTO;
 import org.example.enums.EmploymentStatus;
 import org.example.exception.DuplicateEmailException;
 import org.example.exception.EmployeeNotFoundException;
+import org.example.model.BatchResult;
 import org.example.model.Employee;
+import org.example.model.EmployeePage;
+import org.example.model.EmployeeQuery;
+import org.example.model.EmployeeQueryResult;
+import org.example.model.QueryPlan;
 import org.example.model.Position;
 import org.example.service.EmployeeService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.util.Arrays;
 import java.util.List;
@@ -25,15 +35,19 @@ import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Primary;
 
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import org.springframework.test.context.ContextConfiguration;
 
 @WebMvcTest(controllers = EmployeeController.class)
-@ContextConfiguration(classes = {EmployeeController.class, org.example.exception.GlobalExceptionHandler.class, EmployeeControllerTest.MockConfig.class})
+@ContextConfiguration(classes = {EmployeeController.class, org.example.exception.GlobalExceptionHandler.class, org.example.config.BinaryFormatsConfig.class, EmployeeControllerTest.MockConfig.class})
 public class EmployeeControllerTest {
 
     @Autowired
@@ -68,13 +82,130 @@ public class EmployeeControllerTest {
         emp1.setStatus(EmploymentStatus.ACTIVE);
         Employee emp2 = new Employee("Anna", "Nowak", "anna@example.com", "CompanyB", "MANAGER", 6000.0);
         emp2.setStatus(EmploymentStatus.ACTIVE);
-        Mockito.when(employeeService.getEmployees()).thenReturn(new Employee[]{emp1, emp2});
+        Mockito.when(employeeService.getEmployeesPage(isNull(), eq(101), isNull())).thenReturn(List.of(emp1, emp2));
 
         mockMvc.perform(get("/api/employees"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.length()").value(2))
                 .andExpect(jsonPath("$[0].email").value("jan@example.com"))
-                .andExpect(jsonPath("$[1].email").value("anna@example.com"));
+                .andExpect(jsonPath("$[1].email").value("anna@example.com"))
+                .andExpect(header().doesNotExist("Link"));
+    }
+
+    @Test
+    void testGetAllEmployeesReturnsNextCursor() throws Exception {
+        Employee emp1 = new Employee("Anna", "Nowak", "anna@example.com", "CompanyA", "MANAGER", 6000.0);
+        Employee emp2 = new Employee("Jan", "Kowalski", "jan@example.com", "CompanyA", "MANAGER", 5000.0);
+        Employee emp3 = new Employee("Ola", "Lis", "ola@example.com", "CompanyA", "MANAGER", 5000.0);
+        Mockito.when(employeeService.getEmployeesPage(isNull(), eq(3), isNull())).thenReturn(List.of(emp1, emp2, emp3));
+        String nextCursor = EmployeeController.encodeCursor("jan@example.com");
+
+        mockMvc.perform(get("/api/employees").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(header().string("X-Next-Cursor", nextCursor))
+                .andExpect(header().string("Link", containsString("cursor=" + nextCursor)));
+
+        Mockito.when(employeeService.getEmployeesPage(eq("jan@example.com"), eq(3), isNull())).thenReturn(List.of(emp3));
+
+        mockMvc.perform(get("/api/employees").param("limit", "2").param("cursor", nextCursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].email").value("ola@example.com"))
+                .andExpect(header().doesNotExist("X-Next-Cursor"));
+    }
+
+    @Test
+    void testGetAllEmployeesNotModified() throws Exception {
+        Mockito.when(employeeService.getVersion()).thenReturn(3L);
+
+        mockMvc.perform(get("/api/employees").header("If-None-Match", "\"v3-json\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"v3-json\""))
+                .andExpect(header().string("Vary", containsString("Accept")));
+
+        Mockito.verify(employeeService, Mockito.never()).getEmployeesPage(any(), anyInt(), any());
+    }
+
+    @Test
+    void testETagDependsOnRepresentation() throws Exception {
+        Mockito.when(employeeService.getVersion()).thenReturn(3L);
+
+        // ETag odpowiedzi JSON nie może dać 304 dla żądania CBOR
+        mockMvc.perform(get("/api/employees")
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .header("If-None-Match", "\"v3-json\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"v3-cbor\""));
+        assertEquals("smile", EmployeeController.representation("application/x-jackson-smile, application/json;q=0.5"));
+        assertEquals("json", EmployeeController.representation("*/*"));
+        assertEquals("json", EmployeeController.representation("application/json, application/cbor"));
+    }
+
+    @Test
+    void testGetAllEmployeesInvalidLimit() throws Exception {
+        mockMvc.perform(get("/api/employees").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/employees").param("limit", "100000"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testGetAllEmployeesWithFieldProjection() throws Exception {
+        Employee emp = new Employee("Jan", "Kowalski", "jan@example.com", "CompanyA", "MANAGER", 5000.0);
+        Mockito.when(employeeService.getEmployeesPage(isNull(), anyInt(), isNull())).thenReturn(List.of(emp));
+
+        mockMvc.perform(get("/api/employees").param("fields", "email,company"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].email").value("jan@example.com"))
+                .andExpect(jsonPath("$[0].company").value("CompanyA"))
+                .andExpect(jsonPath("$[0].firstName").doesNotExist())
+                .andExpect(jsonPath("$[0].salary").doesNotExist());
+    }
+
+    @Test
+    void testGetAllEmployeesUnknownField() throws Exception {
+        mockMvc.perform(get("/api/employees").param("fields", "email,pesel"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testGetAllEmployeesAsCbor() throws Exception {
+        Employee emp = new Employee("Jan", "Kowalski", "jan@example.com", "CompanyA", "MANAGER", 5000.0);
+        Mockito.when(employeeService.getEmployeesPage(isNull(), anyInt(), isNull())).thenReturn(List.of(emp));
+
+        MvcResult result = mockMvc.perform(get("/api/employees").param("fields", "email,salary")
+                        .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+                .andReturn();
+
+        JsonNode body = new CBORMapper().readTree(result.getResponse().getContentAsByteArray());
+        assertEquals("jan@example.com", body.get(0).get("email").asText());
+        assertEquals(5000.0, body.get(0).get("salary").asDouble());
+    }
+
+    @Test
+    void testExportEmployeesAsNdjson() throws Exception {
+        Employee emp1 = new Employee("Jan", "Kowalski", "jan@example.com", "CompanyA", "MANAGER", 5000.0);
+        emp1.setStatus(EmploymentStatus.ACTIVE);
+        Employee emp2 = new Employee("Anna", "Nowak", "anna@example.com", "CompanyB", "MANAGER", 6000.0);
+        Mockito.when(employeeService.getEmployees()).thenReturn(new Employee[]{emp1, emp2});
+
+        MvcResult result = mockMvc.perform(get("/api/employees/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", containsString("application/x-ndjson")))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("jan@example.com", objectMapper.readTree(lines[0]).get("email").asText());
+        assertEquals("ACTIVE", objectMapper.readTree(lines[0]).get("status").asText());
+        assertEquals("anna@example.com", objectMapper.readTree(lines[1]).get("email").asText());
     }
 
     @Test
@@ -138,7 +269,7 @@ public class EmployeeControllerTest {
         emp1.setStatus(EmploymentStatus.ACTIVE);
         Employee emp2 = new Employee("Anna", "Nowak", "anna@example.com", "CompanyA", "MANAGER", 6000.0);
         emp2.setStatus(EmploymentStatus.ACTIVE);
-        Mockito.when(employeeService.getEmployees()).thenReturn(new Employee[]{emp1, emp2});
+        Mockito.when(employeeService.getEmployeesPage(isNull(), anyInt(), eq("CompanyA"))).thenReturn(List.of(emp1, emp2));
 
         mockMvc.perform(get("/api/employees").param("company", "CompanyA"))
                 .andExpect(status().isOk())
@@ -146,6 +277,103 @@ public class EmployeeControllerTest {
                 .andExpect(jsonPath("$[0].company").value("CompanyA"));
     }
 
+    @Test
+    void testGetEmployeesByStatus() throws Exception {
+        Employee emp1 = new Employee("Jan", "Kowalski", "jan@example.com", "CompanyA", "MANAGER", 5000.0);
+        emp1.setStatus(EmploymentStatus.ON_LEAVE);
+        Employee emp2 = new Employee("Anna", "Nowak", "anna@example.com", "CompanyA", "INTERN", 3000.0);
+        emp2.setStatus(EmploymentStatus.ON_LEAVE);
+        Mockito.when(employeeService.getEmployeesByStatus(EmploymentStatus.ON_LEAVE, 0, 2))
+                .thenReturn(new EmployeePage(List.of(emp1, emp2), 7));
+        Mockito.when(employeeService.getEmployeesByStatus(EmploymentStatus.ON_LEAVE, 7, 2))
+                .thenReturn(new EmployeePage(List.of(), -1));
+
+        MvcResult first = mockMvc.perform(get("/api/employees/status/on_leave").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].status").value("ON_LEAVE"))
+                .andExpect(header().exists("X-Next-Cursor"))
+                .andReturn();
+
+        mockMvc.perform(get("/api/employees/status/ON_LEAVE")
+                        .param("limit", "2")
+                        .param("cursor", first.getResponse().getHeader("X-Next-Cursor")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0))
+                .andExpect(header().doesNotExist("X-Next-Cursor"));
+    }
+
+    @Test
+    void testGetEmployeesByUnknownStatus() throws Exception {
+        mockMvc.perform(get("/api/employees/status/MANAGER"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testQueryEmployeesWithExplain() throws Exception {
+        Employee emp = new Employee("Jan", "Kowalski", "jan@example.com", "CompanyA", "MANAGER", 12000.0);
+        emp.setStatus(EmploymentStatus.ACTIVE);
+        QueryPlan plan = new QueryPlan("position", java.util.Map.of("position", 1), List.of("company"), List.of("salary"), 1);
+        ArgumentCaptor<EmployeeQuery> captor = ArgumentCaptor.forClass(EmployeeQuery.class);
+        Mockito.when(employeeService.query(captor.capture(), eq(0L), eq(100)))
+                .thenReturn(new EmployeeQueryResult(new EmployeePage(List.of(emp), -1), plan, 1));
+
+        mockMvc.perform(get("/api/employees/query")
+                        .param("company", "CompanyA")
+                        .param("position", "manager")
+                        .param("minSalary", "10000")
+                        .param("explain", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.plan.access").value("position"))
+                .andExpect(jsonPath("$.rowsExamined").value(1))
+                .andExpect(jsonPath("$.employees[0].email").value("jan@example.com"));
+
+        assertEquals(Position.MANAGER, captor.getValue().getPosition());
+        assertEquals(10000.0, captor.getValue().getMinSalary());
+    }
+
+    @Test
+    void testQueryEmployeesInvalidSalaryRange() throws Exception {
+        mockMvc.perform(get("/api/employees/query").param("minSalary", "5000").param("maxSalary", "1000"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testGetEmployeesBySalaryRange() throws Exception {
+        Employee emp1 = new Employee("Anna", "Nowak", "anna@example.com", "CompanyA", "TEAM_LEAD", 8000.0);
+        Employee emp2 = new Employee("Jan", "Kowalski", "jan@example.com", "CompanyA", "MANAGER", 12000.0);
+        Mockito.when(employeeService.getEmployeesBySalaryRange(8000, 12000, null, null, 2))
+                .thenReturn(List.of(emp1, emp2));
+        Mockito.when(employeeService.getEmployeesBySalaryRange(8000, 12000, 8000.0, "anna@example.com", 2))
+                .thenReturn(List.of(emp2));
+
+        MvcResult first = mockMvc.perform(get("/api/employees/salary")
+                        .param("min", "8000").param("max", "12000").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].email").value("anna@example.com"))
+                .andReturn();
+
+        mockMvc.perform(get("/api/employees/salary")
+                        .param("min", "8000").param("max", "12000").param("limit", "1")
+                        .param("cursor", first.getResponse().getHeader("X-Next-Cursor")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].email").value("jan@example.com"))
+                .andExpect(header().doesNotExist("X-Next-Cursor"));
+    }
+
+    @Test
+    void testGetTopEarners() throws Exception {
+        Employee emp = new Employee("Jan", "Kowalski", "jan@example.com", "CompanyA", "PRESIDENT", 25000.0);
+        Mockito.when(employeeService.getTopEarners(1)).thenReturn(List.of(emp));
+
+        mockMvc.perform(get("/api/employees/salary/top").param("n", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].salary").value(25000.0));
+        mockMvc.perform(get("/api/employees/salary/top").param("n", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void testUpdateEmployeeStatus() throws Exception {
         Employee emp = new Employee("Jan", "Kowalski", "jan@example.com", "CompanyA", "MANAGER", 5000.0);
@@ -159,4 +387,84 @@ public class EmployeeControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.status").value("ON_LEAVE"));
     }
+
+    @Test
+    void testAddEmployeesBatch() throws Exception {
+        List<EmployeeDTO> dtos = List.of(
+                new EmployeeDTO("Jan", "Kowalski", "jan@example.com", "CompanyA", Position.MANAGER, 5000.0, (String) null),
+                new EmployeeDTO("Anna", "Nowak", "jan@example.com", "CompanyA", Position.MANAGER, null, (String) null));
+        Mockito.when(employeeService.addEmployees(any())).thenReturn(new BatchResult(List.of(
+                BatchResult.ItemResult.ok(0, "jan@example.com"),
+                BatchResult.ItemResult.failed(1, "jan@example.com", "employee already exists"))));
+
+        mockMvc.perform(post("/api/employees/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dtos)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeededCount").value(1))
+                .andExpect(jsonPath("$.failedCount").value(1))
+                .andExpect(jsonPath("$.items[1].error").value("employee already exists"));
+
+        ArgumentCaptor<List<Employee>> captor = ArgumentCaptor.forClass(List.class);
+        Mockito.verify(employeeService).addEmployees(captor.capture());
+        assertEquals(5000.0, captor.getValue().get(0).getSalary());
+        assertEquals(Position.MANAGER.getBaseSalary(), captor.getValue().get(1).getSalary());
+    }
+
+    @Test
+    void testUpdateEmployeeStatusesBatch() throws Exception {
+        Employee emp = new Employee("Jan", "Kowalski", "jan@example.com", "CompanyA", "MANAGER", 5000.0);
+        emp.setStatus(EmploymentStatus.ACTIVE);
+        Mockito.when(employeeService.getEmployeeByEmail("jan@example.com")).thenReturn(emp);
+        Mockito.when(employeeService.updateEmployees(any())).thenReturn(new BatchResult(List.of(
+                BatchResult.ItemResult.ok(0, "jan@example.com"),
+                BatchResult.ItemResult.failed(1, "ghost@example.com", "employee not found"))));
+        List<StatusChangeDTO> changes = List.of(
+                new StatusChangeDTO("jan@example.com", EmploymentStatus.ON_LEAVE),
+                new StatusChangeDTO("ghost@example.com", EmploymentStatus.TERMINATED));
+
+        mockMvc.perform(patch("/api/employees/batch/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(changes)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].success").value(true))
+                .andExpect(jsonPath("$.items[1].success").value(false));
+
+        ArgumentCaptor<List<Employee>> captor = ArgumentCaptor.forClass(List.class);
+        Mockito.verify(employeeService).updateEmployees(captor.capture());
+        assertEquals(EmploymentStatus.ON_LEAVE, captor.getValue().get(0).getStatus());
+        assertEquals("ghost@example.com", captor.getValue().get(1).getEmail());
+        // zapisany obiekt nie jest modyfikowany w miejscu
+        assertEquals(EmploymentStatus.ACTIVE, emp.getStatus());
+    }
+
+    @Test
+    void testUpdateEmployeesBatchWithBlankEmail() throws Exception {
+        Employee emp = new Employee("Jan", "Kowalski", "jan@example.com", "CompanyA", "MANAGER", 5000.0);
+        Mockito.when(employeeService.getEmployeeByEmail("jan@example.com")).thenReturn(emp);
+        Mockito.when(employeeService.getEmployeeByEmail("")).thenThrow(new IllegalArgumentException("email is null or empty"));
+        Mockito.when(employeeService.updateEmployees(any())).thenReturn(new BatchResult(List.of(
+                BatchResult.ItemResult.ok(0, "jan@example.com"),
+                BatchResult.ItemResult.failed(1, "", "employee not found"))));
+        List<EmployeeDTO> dtos = List.of(
+                new EmployeeDTO("Jan", "Nowy", "jan@example.com", "CompanyA", Position.MANAGER, 6000.0, (String) null),
+                new EmployeeDTO("Anna", "Nowak", "", "CompanyA", Position.MANAGER, null, (String) null));
+
+        mockMvc.perform(put("/api/employees/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dtos)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].success").value(true))
+                .andExpect(jsonPath("$.items[1].success").value(false));
+        mockMvc.perform(patch("/api/employees/batch/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(
+                                new StatusChangeDTO("", EmploymentStatus.ON_LEAVE)))))
+                .andExpect(status().isOk());
+
+        ArgumentCaptor<List<Employee>> captor = ArgumentCaptor.forClass(List.class);
+        Mockito.verify(employeeService, Mockito.times(2)).updateEmployees(captor.capture());
+        assertEquals("Nowy", captor.getAllValues().get(0).get(0).getSurname());
+        assertEquals("", captor.getAllValues().get(0).get(1).getEmail());
+    }
 }
@@ -0,0 +1,147 @@
+package org.example.controller;
+
+import org.example.dto.EmployeeDTO;
+import org.example.enums.EmploymentStatus;
+import org.example.exception.GlobalExceptionHandler;
+import org.example.model.Employee;
+import org.example.model.Position;
+import org.example.service.EmployeeService;
+import org.example.service.StatisticsCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ReactiveEmployeeControllerTest {
+
+    private EmployeeService employeeService;
+    private WebTestClient client;
+
+    @BeforeEach
+    void setUp() {
+        Employee jan = new Employee("Jan", "Kowalski", "jan@example.com", "CompanyA", "MANAGER", 5000.0);
+        Employee anna = new Employee("Anna", "Nowak", "anna@example.com", "CompanyA", "MANAGER", 6000.0);
+        Employee ola = new Employee("Ola", "Lis", "ola@example.com", "CompanyB", "MANAGER", 7000.0);
+        employeeService = new EmployeeService(new Employee[]{jan, anna, ola});
+        client = WebTestClient.bindToController(
+                        new ReactiveEmployeeController(employeeService),
+                        new ReactiveStatisticsController(employeeService, new StatisticsCache(employeeService, 16)))
+                .controllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    void testGetAllEmployeesPage() {
+        client.get().uri("/api/employees?limit=2")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("X-Next-Cursor", EmployeeController.encodeCursor("jan@example.com"))
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(2)
+                .jsonPath("$[0].email").isEqualTo("anna@example.com");
+    }
+
+    @Test
+    void testGetAllEmployeesNotModified() {
+        String etag = EmployeeController.versionETag(employeeService.getVersion(), null);
+
+        client.get().uri("/api/employees")
+                .header("If-None-Match", etag)
+                .exchange()
+                .expectStatus().isNotModified();
+    }
+
+    @Test
+    void testExportStreamsNdjson() {
+        List<EmployeeDTO> rows = client.get().uri("/api/employees/export")
+                .accept(MediaType.parseMediaType(EmployeeController.NDJSON_VALUE))
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(EmployeeDTO.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        assertEquals(3, rows.size());
+    }
+
+    @Test
+    void testGetEmployeeByEmailNotFound() {
+        client.get().uri("/api/employees/ghost@example.com")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void testUpdateEmployeeStatus() {
+        client.patch().uri("/api/employees/jan@example.com/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(EmploymentStatus.ON_LEAVE)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo("ON_LEAVE");
+
+        assertEquals(EmploymentStatus.ON_LEAVE, employeeService.getEmployeeByEmail("jan@example.com").getStatus());
+    }
+
+    @Test
+    void testGetEmployeesByStatusPage() {
+        employeeService.getEmployeeByEmail("jan@example.com").setStatus(EmploymentStatus.ACTIVE);
+        employeeService.getEmployeeByEmail("ola@example.com").setStatus(EmploymentStatus.ACTIVE);
+
+        String nextCursor = client.get().uri("/api/employees/status/active?limit=1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(1)
+                .jsonPath("$[0].email").isEqualTo("jan@example.com")
+                .jsonPath("$[0].status").isEqualTo("ACTIVE")
+                .returnResult()
+                .getResponseHeaders()
+                .getFirst("X-Next-Cursor");
+
+        client.get().uri("/api/employees/status/ACTIVE?limit=1&cursor=" + nextCursor)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().doesNotExist("X-Next-Cursor")
+                .expectBody()
+                .jsonPath("$[0].email").isEqualTo("ola@example.com");
+
+        client.get().uri("/api/employees/status/RETIRED")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void testAddEmployee() {
+        EmployeeDTO dto = new EmployeeDTO("Ewa", "Mak", "ewa@example.com", "CompanyB", Position.INTERN, 3000.0, (String) null);
+
+        client.post().uri("/api/employees")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(dto)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectHeader().valueEquals("Location", "/api/employees/ewa@example.com");
+
+        assertEquals(4, employeeService.getEmployees().length);
+    }
+
+    @Test
+    void testGetCompanyStatistics() {
+        client.get().uri("/api/statistics/company/CompanyA")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.employeeCount").isEqualTo(2)
+                .jsonPath("$.highestSalary").isEqualTo(6000.0);
+
+        client.get().uri("/api/statistics/company/Nope")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+}
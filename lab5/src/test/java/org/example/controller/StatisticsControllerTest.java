@@ -1,21 +1,27 @@
 package org.example.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.example.config.BinaryFormatsConfig;
 import org.example.dto.CompanyStatisticsDTO;
 import org.example.model.CompanyStatistics;
 import org.example.model.Employee;
 import org.example.service.EmployeeService;
+import org.example.service.StatisticsCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -27,7 +33,7 @@ import org.springframework.context.annotation.Primary;
 import org.example.model.Position;
 
 @WebMvcTest(controllers = StatisticsController.class)
-@ContextConfiguration(classes = {StatisticsController.class, org.example.exception.GlobalExceptionHandler.class, StatisticsControllerTest.MockConfig.class})
+@ContextConfiguration(classes = {StatisticsController.class, org.example.exception.GlobalExceptionHandler.class, org.example.config.BinaryFormatsConfig.class, StatisticsControllerTest.MockConfig.class})
 public class StatisticsControllerTest {
 
     @Autowired
@@ -36,6 +42,9 @@ public class StatisticsControllerTest {
     @Autowired
     private EmployeeService employeeService;
 
+    @Autowired
+    private StatisticsCache statisticsCache;
+
     private ObjectMapper objectMapper;
 
     @TestConfiguration
@@ -45,12 +54,18 @@ public class StatisticsControllerTest {
         public EmployeeService employeeService() {
             return Mockito.mock(EmployeeService.class);
         }
+
+        @Bean
+        public StatisticsCache statisticsCache(EmployeeService employeeService) {
+            return new StatisticsCache(employeeService, 16);
+        }
     }
 
     @BeforeEach
     void setUp() {
         objectMapper = new ObjectMapper();
         Mockito.reset(employeeService);
+        statisticsCache.clear();
     }
 
     @Test
@@ -98,6 +113,28 @@ public class StatisticsControllerTest {
                 .andExpect(jsonPath("$.highestSalary").value(6000.0));
     }
 
+    @Test
+    void testGetCompanyStatistics_caseInsensitiveSharesCacheEntry() throws Exception {
+        CompanyStatistics stats = new CompanyStatistics();
+        stats.setTotalEmployees(1);
+        stats.setAverageSalary(5000.0);
+        stats.setHighestPaidEmployeeName("Jan");
+        stats.setHighestPaidEmployeeSurname("Kowalski");
+        Employee emp = new Employee("Jan", "Kowalski", "jan@example.com", "CompanyA", "MANAGER", 5000.0);
+
+        Mockito.when(employeeService.getCompanyStatistics()).thenReturn(Map.of("CompanyA", stats));
+        Mockito.when(employeeService.getEmployeeByCompanyName(anyString())).thenReturn(new Employee[]{emp});
+
+        mockMvc.perform(get("/api/statistics/company/companya"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.companyName").value("CompanyA"));
+        mockMvc.perform(get("/api/statistics/company/COMPANYA"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.companyName").value("CompanyA"));
+
+        Mockito.verify(employeeService, Mockito.times(1)).getCompanyStatistics();
+    }
+
     @Test
     void testGetCompanyStatisticsNotFound() throws Exception {
         Map<String, CompanyStatistics> statsMap = new HashMap<>();
@@ -119,6 +156,29 @@ public class StatisticsControllerTest {
                 .andExpect(jsonPath("$.MANAGER").value(8));
     }
 
+    @Test
+    void testGetEmployeesByPositionReturnsETag() throws Exception {
+        Mockito.when(employeeService.getVersion()).thenReturn(7L);
+        Mockito.when(employeeService.getPositionCounts()).thenReturn(Map.of("MANAGER", 8));
+
+        mockMvc.perform(get("/api/statistics/positions"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"v7-json\""));
+    }
+
+    @Test
+    void testGetEmployeesByPositionNotModified() throws Exception {
+        Mockito.when(employeeService.getVersion()).thenReturn(7L);
+
+        mockMvc.perform(get("/api/statistics/positions").header("If-None-Match", "\"v7-json\""))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/api/statistics/company/CompanyA").header("If-None-Match", "\"v7-json\""))
+                .andExpect(status().isNotModified());
+
+        Mockito.verify(employeeService, Mockito.never()).getPositionCounts();
+        Mockito.verify(employeeService, Mockito.never()).getCompanyStatistics();
+    }
+
     @Test
     void testGetEmployeesByStatus() throws Exception {
         Employee emp1 = new Employee("Jan", "Kowalski", "jan@example.com", "CompanyA", "MANAGER", 5000.0);
@@ -129,4 +189,53 @@ public class StatisticsControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.employed").value(2));
     }
+
+    @Test
+    void testGetEmployeesByPositionServedFromCache() throws Exception {
+        Mockito.when(employeeService.getPositionCounts()).thenReturn(Map.of("MANAGER", 8));
+
+        mockMvc.perform(get("/api/statistics/positions")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/statistics/positions"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.MANAGER").value(8));
+
+        Mockito.verify(employeeService, Mockito.times(1)).getPositionCounts();
+    }
+
+    @Test
+    void testGetEmployeesByPositionAsSmile() throws Exception {
+        Mockito.when(employeeService.getPositionCounts()).thenReturn(Map.of("MANAGER", 8));
+
+        byte[] body = mockMvc.perform(get("/api/statistics/positions")
+                        .accept(MediaType.parseMediaType(BinaryFormatsConfig.SMILE_VALUE)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertEquals(8, new SmileMapper().readTree(body).get("MANAGER").asInt());
+    }
+
+    @Test
+    void testGetCompanyTopEarners() throws Exception {
+        Employee emp = new Employee("Jan", "Kowalski", "jan@example.com", "CompanyA", "PRESIDENT", 25000.0);
+        Mockito.when(employeeService.getTopEarnersByCompany("CompanyA", 3)).thenReturn(List.of(emp));
+
+        mockMvc.perform(get("/api/statistics/company/CompanyA/top").param("n", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].email").value("jan@example.com"))
+                .andExpect(jsonPath("$[0].salary").value(25000.0));
+        mockMvc.perform(get("/api/statistics/company/Unknown/top"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/statistics/company/CompanyA/top").param("n", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testGetCompanyTopEarnersNotModified() throws Exception {
+        Mockito.when(employeeService.getVersion()).thenReturn(7L);
+
+        mockMvc.perform(get("/api/statistics/company/CompanyA/top").header("If-None-Match", "\"v7-json\""))
+                .andExpect(status().isNotModified());
+
+        Mockito.verify(employeeService, Mockito.never()).getTopEarnersByCompany(anyString(), Mockito.anyInt());
+    }
 }
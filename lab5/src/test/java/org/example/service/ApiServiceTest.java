@@ -6,13 +6,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.example.exception.ApiException;
 import org.example.model.Employee;
+import org.example.support.StubApiServer;
 
 import java.io.IOException;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -48,5 +51,89 @@ public class ApiServiceTest {
                 .containsExactly("jan@x.com");
     }
 
+    @Test
+    void fetchFromAPI_transientFailures_retriesAndSucceeds() throws Exception {
+        try (StubApiServer stub = new StubApiServer().failNext(2, 503)) {
+            ApiService api = new ApiService(HttpClient.newHttpClient(), gson, stub.url(), 1000, 3, 1, 5, 5, 30000);
+
+            List<Employee> employees = api.fetchEmployeesFromApi();
+
+            assertThat(employees).hasSize(1);
+            assertThat(stub.getRequestCount()).isEqualTo(3);
+            assertThat(api.getMetrics()).containsEntry("retries", 2L).containsEntry("successfulCalls", 1L);
+            assertThat(api.getCircuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        }
+    }
+
+    @Test
+    void fetchFromAPI_clientError_doesNotRetry() throws Exception {
+        try (StubApiServer stub = new StubApiServer().failNext(5, 404)) {
+            ApiService api = new ApiService(HttpClient.newHttpClient(), gson, stub.url(), 1000, 3, 1, 5, 5, 30000);
+
+            assertThatThrownBy(api::fetchEmployeesFromApi)
+                    .isInstanceOf(ApiException.class)
+                    .hasMessageContaining("404");
+            assertThat(stub.getRequestCount()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void fetchFromAPI_slowUpstream_timesOut() throws Exception {
+        try (StubApiServer stub = new StubApiServer().withLatency(1000)) {
+            ApiService api = new ApiService(HttpClient.newHttpClient(), gson, stub.url(), 100, 2, 1, 5, 5, 30000);
+
+            long start = System.nanoTime();
+            assertThatThrownBy(api::fetchEmployeesFromApi).isInstanceOf(ApiException.class);
+            long elapsedMs = (System.nanoTime() - start) / 1_000_000;
 
+            assertThat(elapsedMs).isLessThan(1000);
+            assertThat(api.getMetrics()).containsEntry("retries", 1L);
+        }
+    }
+
+    @Test
+    void fetchFromAPI_executorSaturated_retriesAsApiException() throws Exception {
+        when(client.send(any(HttpRequest.class), ArgumentMatchers.<HttpResponse.BodyHandler<String>>any()))
+                .thenThrow(new RejectedExecutionException("queue full"));
+        ApiService api = new ApiService(client, gson, testApiUrl, 1000, 2, 1, 5, 5, 30000);
+
+        assertThatThrownBy(api::fetchEmployeesFromApi)
+                .isInstanceOf(ApiException.class)
+                .hasMessageContaining("saturated");
+        assertThat(api.getMetrics()).containsEntry("retries", 1L);
+    }
+
+    @Test
+    void fetchFromAPI_repeatedFailures_opensCircuitAndFailsFast() throws Exception {
+        try (StubApiServer stub = new StubApiServer().failNext(100, 503)) {
+            ApiService api = new ApiService(HttpClient.newHttpClient(), gson, stub.url(), 1000, 1, 1, 5, 2, 60000);
+
+            assertThatThrownBy(api::fetchEmployeesFromApi).isInstanceOf(ApiException.class);
+            assertThatThrownBy(api::fetchEmployeesFromApi).isInstanceOf(ApiException.class);
+            assertThat(api.getCircuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+            assertThatThrownBy(api::fetchEmployeesFromApi)
+                    .isInstanceOf(ApiException.class)
+                    .hasMessageContaining("Circuit breaker is open");
+            assertThat(stub.getRequestCount()).isEqualTo(2);
+            assertThat(api.getMetrics()).containsEntry("rejectedByCircuit", 1L);
+        }
+    }
+
+    @Test
+    void circuitBreaker_afterOpenPeriod_allowsSingleTrialCall() {
+        long[] now = {0};
+        CircuitBreaker breaker = new CircuitBreaker(1, 1000, () -> now[0]);
+        breaker.recordFailure();
+        assertThat(breaker.allowRequest()).isFalse();
+
+        now[0] = 1000;
+        assertThat(breaker.allowRequest()).isTrue();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.allowRequest()).isFalse();
+
+        breaker.recordSuccess();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.allowRequest()).isTrue();
+    }
 }
@@ -0,0 +1,150 @@
+package org.example.service;
+
+import org.example.enums.EmploymentStatus;
+import org.example.exception.ApiException;
+import org.example.model.Employee;
+import org.example.model.Position;
+import org.example.model.SyncReport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ApiSyncServiceTest {
+
+    @Mock
+    private ApiService apiService;
+
+    private EmployeeService employeeService;
+    private ApiSyncService syncService;
+    private Employee local;
+
+    @BeforeEach
+    void setUp() {
+        local = new Employee("Jan", "Kowalski", "jan.k@example.com", "ABC", Position.MANAGER);
+        employeeService = new EmployeeService(new Employee[]{local});
+        syncService = new ApiSyncService(apiService, employeeService, true);
+    }
+
+    @Test
+    void synchronize_firstRun_addsAllFetchedEmployees() {
+        when(apiService.fetchEmployeesFromApi()).thenReturn(List.of(
+                new Employee("Anna", "Nowak", "anna@api.com", "Api Corp", Position.TEAM_LEAD),
+                new Employee("Piotr", "Lis", "piotr@api.com", "Api Corp", Position.TEAM_LEAD)));
+
+        SyncReport report = syncService.synchronize();
+
+        assertThat(report.isSuccessful()).isTrue();
+        assertThat(report.getAddedCount()).isEqualTo(2);
+        assertThat(report.getUpdatedCount()).isZero();
+        assertThat(employeeService.getEmployees()).hasSize(3);
+    }
+
+    @Test
+    void synchronize_secondRun_appliesOnlyDiff() {
+        Employee anna = new Employee("Anna", "Nowak", "anna@api.com", "Api Corp", Position.TEAM_LEAD);
+        when(apiService.fetchEmployeesFromApi()).thenReturn(List.of(
+                anna,
+                new Employee("Piotr", "Lis", "piotr@api.com", "Api Corp", Position.TEAM_LEAD)));
+        syncService.synchronize();
+        employeeService.getEmployeeByEmail("anna@api.com").setStatus(EmploymentStatus.ON_LEAVE);
+
+        when(apiService.fetchEmployeesFromApi()).thenReturn(List.of(
+                new Employee("Anna", "Nowak", "ANNA@api.com", "New Corp", Position.TEAM_LEAD),
+                new Employee("Ewa", "Mak", "ewa@api.com", "Api Corp", Position.TEAM_LEAD)));
+        SyncReport report = syncService.synchronize();
+
+        assertThat(report.getAddedCount()).isEqualTo(1);
+        assertThat(report.getUpdatedCount()).isEqualTo(1);
+        assertThat(report.getRemovedCount()).isEqualTo(1);
+        assertThat(report.getUnchangedCount()).isZero();
+
+        Employee updated = employeeService.getEmployeeByEmail("anna@api.com");
+        assertThat(updated.getCompanyName()).isEqualTo("New Corp");
+        assertThat(updated.getStatus()).isEqualTo(EmploymentStatus.ON_LEAVE);
+        assertThat(employeeService.getEmployeeByEmail("piotr@api.com")).isNull();
+        // pracownik spoza API nie jest usuwany
+        assertThat(employeeService.getEmployeeByEmail("jan.k@example.com")).isSameAs(local);
+    }
+
+    @Test
+    void synchronize_unchangedFeed_reportsNoChanges() {
+        when(apiService.fetchEmployeesFromApi())
+                .thenReturn(List.of(new Employee("Anna", "Nowak", "anna@api.com", "Api Corp", Position.TEAM_LEAD)))
+                .thenReturn(List.of(new Employee("Anna", "Nowak", "anna@api.com", "Api Corp", Position.TEAM_LEAD)));
+        syncService.synchronize();
+        Employee[] before = employeeService.getEmployees();
+
+        SyncReport report = syncService.synchronize();
+
+        assertThat(report.getUnchangedCount()).isEqualTo(1);
+        assertThat(employeeService.getEmployees()).isSameAs(before);
+    }
+
+    @Test
+    void synchronize_localEmployeeInFeed_isNeitherUpdatedNorRemoved() {
+        when(apiService.fetchEmployeesFromApi())
+                .thenReturn(List.of(new Employee("Jan", "Kowalski", "JAN.K@example.com", "Api Corp", Position.INTERN)))
+                .thenReturn(List.of());
+
+        SyncReport first = syncService.synchronize();
+        SyncReport second = syncService.synchronize();
+
+        assertThat(first.getSkippedCount()).isEqualTo(1);
+        assertThat(first.getUpdatedCount()).isZero();
+        assertThat(second.getRemovedCount()).isZero();
+        assertThat(employeeService.getEmployeeByEmail("jan.k@example.com")).isSameAs(local);
+        assertThat(local.getCompanyName()).isEqualTo("ABC");
+    }
+
+    @Test
+    void synchronize_employeeAddedManuallyDuringSync_isNotOwnedBySync() {
+        Employee manual = new Employee("Ewa", "Mak", "ewa@api.com", "Manual Corp", Position.INTERN);
+        EmployeeService racingService = new EmployeeService(new Employee[]{local}) {
+            @Override
+            public synchronized Set<String> applyChanges(List<Employee> added, List<Employee> updated, List<String> removedEmails) {
+                // ręczne dodanie między snapshotem a zapisem paczki
+                if (getEmployeeByEmail("ewa@api.com") == null) {
+                    addEmployee(manual);
+                }
+                return super.applyChanges(added, updated, removedEmails);
+            }
+        };
+        ApiSyncService racingSync = new ApiSyncService(apiService, racingService, true);
+        when(apiService.fetchEmployeesFromApi())
+                .thenReturn(List.of(new Employee("Ewa", "Mak", "ewa@api.com", "Api Corp", Position.INTERN)))
+                .thenReturn(List.of(new Employee("Ewa", "Mak", "ewa@api.com", "New Corp", Position.INTERN)))
+                .thenReturn(List.of());
+
+        SyncReport first = racingSync.synchronize();
+        SyncReport second = racingSync.synchronize();
+        SyncReport third = racingSync.synchronize();
+
+        assertThat(first.getAddedCount()).isZero();
+        assertThat(first.getSkippedCount()).isEqualTo(1);
+        assertThat(second.getUpdatedCount()).isZero();
+        assertThat(third.getRemovedCount()).isZero();
+        assertThat(racingService.getEmployeeByEmail("ewa@api.com")).isSameAs(manual);
+        assertThat(manual.getCompanyName()).isEqualTo("Manual Corp");
+    }
+
+    @Test
+    void synchronize_apiFailure_keepsStoreAndReportsError() {
+        when(apiService.fetchEmployeesFromApi()).thenThrow(new ApiException("HTTP error: 503", true));
+
+        SyncReport report = syncService.synchronize();
+
+        assertThat(report.isSuccessful()).isFalse();
+        assertThat(report.getError()).contains("503");
+        assertThat(employeeService.getEmployees()).containsExactly(local);
+        assertThat(syncService.getMetrics()).containsEntry("failedRuns", 1L);
+    }
+}
@@ -0,0 +1,76 @@
+package org.example.service;
+
+import org.example.model.Employee;
+import org.example.model.Position;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AutocompleteIndexTest {
+
+    private EmployeeService service;
+    private AutocompleteIndex index;
+    private Employee jan;
+    private Employee lukasz;
+
+    @BeforeEach
+    void setup() {
+        jan = new Employee("Jan", "Kowalski", "jan.k@example.com", "Tech Solutions", Position.MANAGER);
+        lukasz = new Employee("Łukasz", "Zieliński", "lukasz.z@example.com", "Kowal i Syn", Position.INTERN);
+        service = new EmployeeService(new Employee[]{jan, lukasz});
+        index = new AutocompleteIndex(service);
+    }
+
+    @Test
+    void suggestEmployees_matchesPrefixOfAnyIndexedField() {
+        assertEquals(List.of(jan), index.suggestEmployees("kow", 10));
+        assertEquals(List.of(jan), index.suggestEmployees("JAN.", 10));
+        assertEquals(List.of(lukasz), index.suggestEmployees("zielin", 10));
+    }
+
+    @Test
+    void suggestEmployees_ignoresDiacritics() {
+        assertEquals(List.of(lukasz), index.suggestEmployees("Łuk", 10));
+        assertEquals(List.of(lukasz), index.suggestEmployees("luk", 10));
+    }
+
+    @Test
+    void suggestEmployees_returnsEachEmployeeOnceUpToLimit() {
+        service.addEmployee(new Employee("Janina", "Jankowska", "janina@example.com", "ABC", Position.INTERN));
+
+        List<Employee> suggestions = index.suggestEmployees("jan", 10);
+
+        assertEquals(2, suggestions.size());
+        assertEquals(1, index.suggestEmployees("jan", 1).size());
+    }
+
+    @Test
+    void suggestCompanies_matchesAnyWordOnce() {
+        service.addEmployee(new Employee("Anna", "Nowak", "anna@example.com", "Tech Solutions", Position.INTERN));
+
+        assertEquals(List.of("Tech Solutions"), index.suggestCompanies("sol", 10));
+        assertEquals(List.of("Kowal i Syn"), index.suggestCompanies("kowal", 10));
+    }
+
+    @Test
+    void index_followsUpdatesAndDeletes() {
+        jan.setSurname("Nowicki");
+        service.deleteEmployee("lukasz.z@example.com");
+
+        assertTrue(index.suggestEmployees("kowal", 10).isEmpty());
+        assertEquals(List.of(jan), index.suggestEmployees("nowi", 10));
+        assertTrue(index.suggestCompanies("kowal", 10).isEmpty());
+        assertEquals(List.of("Tech Solutions"), index.suggestCompanies("tech", 10));
+    }
+
+    @Test
+    void setEmployees_rebuildsIndex() {
+        service.setEmployees(new Employee[]{new Employee("Ewa", "Mak", "ewa@example.com", "XYZ", Position.INTERN)});
+
+        assertTrue(index.suggestEmployees("jan", 10).isEmpty());
+        assertEquals(1, index.suggestEmployees("ewa", 10).size());
+    }
+}
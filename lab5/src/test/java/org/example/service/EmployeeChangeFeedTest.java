@@ -0,0 +1,119 @@
+package org.example.service;
+
+import org.example.enums.ChangeType;
+import org.example.enums.EmploymentStatus;
+import org.example.model.Employee;
+import org.example.model.EmployeeChangeEvent;
+import org.example.model.Position;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EmployeeChangeFeedTest {
+
+    private EmployeeService service;
+    private EmployeeChangeFeed feed;
+    private Employee jan;
+
+    @BeforeEach
+    void setup() {
+        jan = new Employee("Jan", "Kowalski", "jan.k@example.com", "ABC", Position.MANAGER);
+        service = new EmployeeService(new Employee[]{jan});
+        feed = new EmployeeChangeFeed(service, 4);
+    }
+
+    private List<ChangeType> typesAfter(long sequence) {
+        return feed.readAfter(sequence, 100).getEvents().stream().map(EmployeeChangeEvent::getType).toList();
+    }
+
+    @Test
+    void mutations_recordedInOrder() {
+        service.addEmployee(new Employee("Piotr", "Zalewski", "piotr.z@example.com", "XYZ", Position.INTERN));
+        jan.setStatus(EmploymentStatus.ON_LEAVE);
+        jan.setSalary(jan.getSalary() + 1000);
+        service.deleteEmployee("piotr.z@example.com");
+
+        assertEquals(List.of(ChangeType.CREATED, ChangeType.STATUS_CHANGED, ChangeType.UPDATED, ChangeType.DELETED),
+                typesAfter(0));
+        assertEquals(4, feed.getLastSequence());
+    }
+
+    @Test
+    void event_holdsSnapshotOfStateAfterChange() {
+        jan.setStatus(EmploymentStatus.ON_LEAVE);
+        jan.setStatus(EmploymentStatus.TERMINATED);
+
+        EmployeeChangeEvent first = feed.readAfter(0, 1).getEvents().get(0);
+
+        assertEquals("jan.k@example.com", first.getEmail());
+        assertEquals(EmploymentStatus.ON_LEAVE, first.getEmployee().getStatus());
+    }
+
+    @Test
+    void resumeFromSequence_returnsOnlyNewerEvents() {
+        jan.setSalary(1);
+        jan.setSalary(2);
+        jan.setSalary(3);
+
+        List<EmployeeChangeEvent> events = feed.readAfter(1, 100).getEvents();
+
+        assertEquals(List.of(2L, 3L), events.stream().map(EmployeeChangeEvent::getSequence).toList());
+    }
+
+    @Test
+    void subscriberBehindRingCapacity_getsResync() {
+        for (int i = 1; i <= 6; i++) {
+            jan.setSalary(i);
+        }
+
+        EmployeeChangeFeed.Batch lagging = feed.readAfter(1, 100);
+        EmployeeChangeFeed.Batch inRange = feed.readAfter(2, 100);
+
+        assertTrue(lagging.isResync());
+        assertEquals(6, lagging.getLastSequence());
+        assertFalse(inRange.isResync());
+        assertEquals(4, inRange.getEvents().size());
+    }
+
+    @Test
+    void unknownFutureSequence_getsResync() {
+        assertTrue(feed.readAfter(100, 10).isResync());
+    }
+
+    @Test
+    void setEmployees_emitsReset() {
+        service.setEmployees(new Employee[0]);
+
+        assertEquals(List.of(ChangeType.RESET), typesAfter(0));
+    }
+
+    @Test
+    void awaitAfter_wakesUpOnAppend() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<EmployeeChangeFeed.Batch> waiting = executor.submit(() -> feed.awaitAfter(0, 10, 10_000));
+            Thread.sleep(50);
+            jan.setSalary(1);
+
+            EmployeeChangeFeed.Batch batch = waiting.get(5, TimeUnit.SECONDS);
+            assertEquals(1, batch.getEvents().size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void awaitAfter_timesOutWithEmptyBatch() throws Exception {
+        EmployeeChangeFeed.Batch batch = feed.awaitAfter(0, 10, 20);
+
+        assertFalse(batch.isResync());
+        assertTrue(batch.getEvents().isEmpty());
+    }
+}
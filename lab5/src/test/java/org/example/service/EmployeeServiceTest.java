@@ -1,7 +1,13 @@
 package org.example.service;
 
+import org.example.enums.EmploymentStatus;
+import org.example.model.BatchResult;
 import org.example.model.CompanyStatistics;
 import org.example.model.Employee;
+import org.example.model.EmployeePage;
+import org.example.model.EmployeeQuery;
+import org.example.model.EmployeeQueryResult;
+import org.example.model.EmployeeChangeListener;
 import org.example.model.Position;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -237,6 +243,28 @@ public class EmployeeServiceTest {
         assertDoesNotThrow(() -> empty.displayAllEmployees());
     }
 
+    @Test
+    void getEmployeesPage_walksAllEmployeesInEmailOrder() {
+        List<Employee> first = service.getEmployeesPage(null, 2, null);
+        assertEquals(List.of(e2, e1), first);
+
+        List<Employee> second = service.getEmployeesPage(first.get(1).getEmail(), 2, null);
+        assertEquals(List.of(e3), second);
+    }
+
+    @Test
+    void getEmployeesPage_filtersByCompany() {
+        List<Employee> page = service.getEmployeesPage(null, 10, "xyz");
+        assertEquals(List.of(e3), page);
+    }
+
+    @Test
+    void getEmployeeByEmail_isCaseInsensitive() {
+        assertSame(e1, service.getEmployeeByEmail("JAN.K@EXAMPLE.COM"));
+        service.deleteEmployee("jan.k@example.com");
+        assertNull(service.getEmployeeByEmail("jan.k@example.com"));
+    }
+
     @Test
     void getEmployeeByCompanyName_emptyEmployees_returnsEmptyArray() {
         EmployeeService empty = new EmployeeService(new Employee[0]);
@@ -245,5 +273,255 @@ public class EmployeeServiceTest {
         assertEquals(0, result.length);
     }
 
+    @Test
+    void addEmployees_reportsPerItemFailuresAndStoresTheRest() {
+        Employee ok = new Employee("Ewa", "Mak", "ewa@example.com", "ABC", Position.INTERN);
+        Employee duplicate = new Employee("Jan", "K", "JAN.K@example.com", "ABC", Position.INTERN);
+        Employee repeated = new Employee("Ewa", "Mak", "ewa@example.com", "ABC", Position.INTERN);
+
+        BatchResult result = service.addEmployees(Arrays.asList(ok, duplicate, null, repeated));
+
+        assertEquals(1, result.getSucceededCount());
+        assertEquals(3, result.getFailedCount());
+        assertTrue(result.getItems().get(0).isSuccess());
+        assertEquals("employee already exists", result.getItems().get(1).getError());
+        assertEquals(4, service.getEmployees().length);
+        assertSame(ok, service.getEmployeeByEmail("ewa@example.com"));
+    }
+
+    @Test
+    void updateEmployees_replacesFoundEmployeesInOneStep() {
+        Employee moved = e1.copy();
+        moved.setCompanyName("XYZ");
+        Employee missing = new Employee("X", "Y", "nobody@example.com", "ABC", Position.INTERN);
+        long version = service.getVersion();
+
+        BatchResult result = service.updateEmployees(List.of(moved, missing));
+
+        assertEquals(1, result.getSucceededCount());
+        assertEquals("employee not found", result.getItems().get(1).getError());
+        assertSame(moved, service.getEmployeeByEmail("jan.k@example.com"));
+        assertEquals(2, service.getEmployeeByCompanyName("XYZ").length);
+        assertEquals(3, service.getEmployees().length);
+        assertEquals(version + 1, service.getVersion());
+    }
+
+    @Test
+    void getEmployeesByStatus_followsEveryKindOfMutation() {
+        e1.setStatus(EmploymentStatus.ACTIVE);
+        Employee onLeave = e2.copy();
+        onLeave.setStatus(EmploymentStatus.ON_LEAVE);
+        service.updateEmployee(onLeave);
+        Employee added = new Employee("Ewa", "Mak", "ewa@example.com", "ABC", Position.INTERN);
+        added.setStatus(EmploymentStatus.ACTIVE);
+        service.addEmployee(added);
+
+        assertEquals(List.of(e1, added), service.getEmployeesByStatus(EmploymentStatus.ACTIVE));
+        assertEquals(List.of(onLeave), service.getEmployeesByStatus(EmploymentStatus.ON_LEAVE));
+
+        e1.setStatus(EmploymentStatus.TERMINATED);
+        service.deleteEmployee("ewa@example.com");
+
+        assertTrue(service.getEmployeesByStatus(EmploymentStatus.ACTIVE).isEmpty());
+        assertEquals(List.of(e1), service.getEmployeesByStatus(EmploymentStatus.TERMINATED));
+        assertEquals(Map.of(EmploymentStatus.ON_LEAVE, 1L, EmploymentStatus.TERMINATED, 1L),
+                service.getStatusStatistics());
+    }
+
+    @Test
+    void getEmployeesByStatus_paginatesWithNextSlot() {
+        e1.setStatus(EmploymentStatus.ACTIVE);
+        e2.setStatus(EmploymentStatus.ACTIVE);
+        e3.setStatus(EmploymentStatus.ACTIVE);
+
+        EmployeePage first = service.getEmployeesByStatus(EmploymentStatus.ACTIVE, 0, 2);
+        EmployeePage second = service.getEmployeesByStatus(EmploymentStatus.ACTIVE, first.getNextSlot(), 2);
+
+        assertEquals(List.of(e1, e2), first.getEmployees());
+        assertTrue(first.hasNext());
+        assertEquals(List.of(e3), second.getEmployees());
+        assertFalse(second.hasNext());
+    }
+
+    @Test
+    void getEmployeesByStatus_nullStatus_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> service.getEmployeesByStatus(null));
+    }
+
+    @Test
+    void statusCursor_isStableAcrossDeleteAndAdd() {
+        e1.setStatus(EmploymentStatus.ACTIVE);
+        e2.setStatus(EmploymentStatus.ACTIVE);
+        e3.setStatus(EmploymentStatus.ACTIVE);
+        EmployeePage first = service.getEmployeesByStatus(EmploymentStatus.ACTIVE, 0, 2);
+
+        // zwolniony slot przed kursorem nie jest używany ponownie - nowy pracownik trafia za kursor
+        service.deleteEmployee("jan.k@example.com");
+        Employee added = new Employee("Ewa", "Mak", "ewa@example.com", "ABC", Position.INTERN);
+        added.setStatus(EmploymentStatus.ACTIVE);
+        service.addEmployee(added);
+        EmployeePage second = service.getEmployeesByStatus(EmploymentStatus.ACTIVE, first.getNextSlot(), 2);
+
+        assertEquals(List.of(e1, e2), first.getEmployees());
+        assertEquals(List.of(e3, added), second.getEmployees());
+        assertFalse(second.hasNext());
+    }
+
+    @Test
+    void query_startsFromMostSelectiveIndexAndIntersects() {
+        e1.setStatus(EmploymentStatus.ACTIVE);
+        e2.setStatus(EmploymentStatus.ACTIVE);
+        e3.setStatus(EmploymentStatus.ACTIVE);
+
+        EmployeeQueryResult result = service.query(
+                new EmployeeQuery(null, "abc", Position.MANAGER, EmploymentStatus.ACTIVE, null, null), 0, 10);
+
+        assertEquals(List.of(e1), result.getEmployees());
+        assertEquals("position", result.getPlan().getAccess());
+        assertEquals(List.of("company", "status"), result.getPlan().getIntersected());
+        assertEquals(Map.of("status", 3, "position", 1, "company", 2), result.getPlan().getConsideredIndexes());
+        assertEquals(1, result.getRowsExamined());
+    }
+
+    @Test
+    void query_wideSalaryRange_checkedOnCandidates() {
+        EmployeeQueryResult result = service.query(
+                new EmployeeQuery(null, "ABC", null, null, 0.0, 10000.0), 0, 10);
+
+        assertEquals(List.of(e2), result.getEmployees());
+        assertEquals("company", result.getPlan().getAccess());
+        assertEquals(List.of("salary"), result.getPlan().getResidualFilters());
+        assertEquals(2, result.getRowsExamined());
+    }
+
+    @Test
+    void query_narrowSalaryRange_drivenBySalaryIndex() {
+        EmployeeQueryResult result = service.query(
+                new EmployeeQuery(null, "ABC", null, null, 9000.0, 20000.0), 0, 10);
+
+        assertEquals(List.of(e1), result.getEmployees());
+        assertEquals("salary", result.getPlan().getAccess());
+        assertEquals(List.of("company"), result.getPlan().getIntersected());
+        assertEquals(1, result.getRowsExamined());
+    }
 
+    @Test
+    void query_withoutFilters_fallsBackToScan() {
+        EmployeeQueryResult result = service.query(new EmployeeQuery(null, null, null, null, null, null), 0, 10);
+
+        assertEquals(List.of(e1, e2, e3), result.getEmployees());
+        assertEquals("scan", result.getPlan().getAccess());
+        assertEquals(3, result.getRowsExamined());
+    }
+
+    @Test
+    void query_byEmail_examinesSingleRow() {
+        EmployeeQueryResult result = service.query(
+                new EmployeeQuery("ANNA.N@example.com", "XYZ", null, null, null, null), 0, 10);
+
+        assertTrue(result.getEmployees().isEmpty());
+        assertEquals("email", result.getPlan().getAccess());
+        assertEquals(List.of("company"), result.getPlan().getResidualFilters());
+        assertEquals(1, result.getRowsExamined());
+    }
+
+    @Test
+    void query_invalidSalaryRange_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> service.query(new EmployeeQuery(null, null, null, null, 10.0, 5.0), 0, 10));
+    }
+
+    @Test
+    void getEmployeesBySalaryRange_pagesInSalaryOrder() {
+        List<Employee> first = service.getEmployeesBySalaryRange(3000, 12000, null, null, 2);
+        Employee last = first.get(first.size() - 1);
+        List<Employee> second = service.getEmployeesBySalaryRange(3000, 12000, last.getSalary(), last.getEmail(), 2);
+
+        assertEquals(List.of(e3, e2), first);
+        assertEquals(List.of(e1), second);
+        assertEquals(List.of(e2), service.getEmployeesBySalaryRange(5000, 9000, null, null, 10));
+    }
+
+    @Test
+    void salaryIndex_followsSetterAndPositionReset() {
+        e3.setSalary(30000);
+        assertEquals(List.of(e3, e1), service.getTopEarners(2));
+
+        e3.setPosition(Position.INTERN);
+        assertEquals(List.of(e1, e2), service.getTopEarners(2));
+        assertSame(e1, service.getHighestPaidEmployee().orElseThrow());
+
+        service.deleteEmployee("jan.k@example.com");
+        assertSame(e2, service.getHighestPaidEmployee().orElseThrow());
+        assertTrue(service.getEmployeesBySalaryRange(12000, 12000, null, null, 10).isEmpty());
+    }
+
+    @Test
+    void getTopEarnersByCompany_followsSalaryCompanyChangesAndDelete() {
+        assertEquals(List.of(e1, e2), service.getTopEarnersByCompany("abc", 5));
+        assertEquals(List.of(e1), service.getTopEarnersByCompany("ABC", 1));
+
+        e2.setSalary(20000);
+        assertEquals(List.of(e2, e1), service.getTopEarnersByCompany("ABC", 5));
+
+        e1.setCompanyName("XYZ");
+        assertEquals(List.of(e2), service.getTopEarnersByCompany("ABC", 5));
+        assertEquals(List.of(e1, e3), service.getTopEarnersByCompany("XYZ", 5));
+
+        service.deleteEmployee("anna.n@example.com");
+        assertTrue(service.getTopEarnersByCompany("ABC", 5).isEmpty());
+    }
+
+    @Test
+    void setter_waitsForChangeInProgress() {
+        double[] seenInListener = new double[1];
+        service.addChangeListener(new EmployeeChangeListener() {
+            private boolean first = true;
+
+            @Override
+            public void onEmployeeChanged(Employee before, Employee after) {
+                if (!first) {
+                    return;
+                }
+                first = false;
+                Thread other = new Thread(() -> e1.setSalary(99000));
+                other.start();
+                try {
+                    other.join(200);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                // drugi setter czeka na blokadę serwisu, zamiast zmieniać obiekt w trakcie aktualizacji indeksów
+                seenInListener[0] = e1.getSalary();
+            }
+        });
+
+        e1.setSalary(20000);
+
+        assertEquals(20000, seenInListener[0]);
+    }
+
+    @Test
+    void setEmail_null_isRejectedAndIndexesUntouched() {
+        assertThrows(IllegalArgumentException.class, () -> e1.setEmail(null));
+
+        assertEquals("jan.k@example.com", e1.getEmail());
+        assertSame(e1, service.getEmployeeByEmail("jan.k@example.com"));
+        assertEquals(List.of(e1, e2), service.getTopEarnersByCompany("ABC", 5));
+        assertEquals(List.of(e1), service.getEmployeesBySalaryRange(12000, 12000, null, null, 10));
+    }
+
+    @Test
+    void setEmail_ofAnotherStoredEmployee_isRejected() {
+        assertThrows(IllegalArgumentException.class, () -> e1.setEmail("ANNA.N@example.com"));
+
+        assertEquals("jan.k@example.com", e1.getEmail());
+        assertSame(e1, service.getEmployeeByEmail("jan.k@example.com"));
+        assertSame(e2, service.getEmployeeByEmail("anna.n@example.com"));
+        assertEquals(3, service.getTopEarners(10).size());
+
+        e1.setEmail("jan.kowalski@example.com");
+        assertSame(e1, service.getEmployeeByEmail("jan.kowalski@example.com"));
+        assertNull(service.getEmployeeByEmail("jan.k@example.com"));
+    }
 }
@@ -0,0 +1,71 @@
+package org.example.service;
+
+import org.example.enums.EmploymentStatus;
+import org.example.model.Employee;
+import org.example.model.EmployeePage;
+import org.example.model.Position;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EmployeeSlotIndexTest {
+
+    private static Employee active(int i) {
+        Employee employee = new Employee("Name" + i, "Surname" + i, "user" + i + "@example.com", "ABC", Position.INTERN);
+        employee.setStatus(EmploymentStatus.ACTIVE);
+        return employee;
+    }
+
+    @Test
+    void addDeleteChurn_keepsSlotsBounded() {
+        Employee[] employees = new Employee[10];
+        for (int i = 0; i < employees.length; i++) {
+            employees[i] = active(i);
+        }
+        EmployeeSlotIndex index = new EmployeeSlotIndex();
+        index.rebuild(employees);
+
+        for (int i = 0; i < 10_000; i++) {
+            Employee churn = active(100 + i);
+            index.update(null, churn);
+            index.update(churn, null);
+        }
+
+        assertTrue(index.allocatedSlots() <= EmployeeSlotIndex.MIN_SLOTS_TO_COMPACT);
+        assertEquals(10, index.countByStatus(EmploymentStatus.ACTIVE));
+        assertEquals(List.of(employees), index.pageByStatus(EmploymentStatus.ACTIVE, 0, 100).getEmployees());
+    }
+
+    @Test
+    void cursor_survivesCompaction() {
+        Employee[] employees = new Employee[100];
+        for (int i = 0; i < employees.length; i++) {
+            employees[i] = active(i);
+        }
+        EmployeeSlotIndex index = new EmployeeSlotIndex();
+        index.rebuild(employees);
+        EmployeePage first = index.pageByStatus(EmploymentStatus.ACTIVE, 0, 10);
+
+        // 70 usuniętych ze 100 - indeks jest zagęszczany, sloty pozostałych się zmieniają
+        List<Employee> expected = new ArrayList<>();
+        for (int i = 0; i < employees.length; i++) {
+            if (i < 10 || (i >= 20 && i < 80)) {
+                index.update(employees[i], null);
+            } else if (i >= 10) {
+                expected.add(employees[i]);
+            }
+        }
+        Employee added = active(1000);
+        index.update(null, added);
+        expected.add(added);
+        EmployeePage rest = index.pageByStatus(EmploymentStatus.ACTIVE, first.getNextSlot(), 100);
+
+        assertEquals(List.of(employees).subList(0, 10), first.getEmployees());
+        assertTrue(index.allocatedSlots() < employees.length);
+        assertEquals(expected, rest.getEmployees());
+        assertFalse(rest.hasNext());
+    }
+}
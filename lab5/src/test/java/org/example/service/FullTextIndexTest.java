@@ -0,0 +1,73 @@
+package org.example.service;
+
+import org.example.model.Employee;
+import org.example.model.Position;
+import org.example.model.SearchHit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FullTextIndexTest {
+
+    private EmployeeService service;
+    private FullTextIndex index;
+    private Employee lukasz;
+    private Employee anna;
+
+    @BeforeEach
+    void setup() {
+        lukasz = new Employee("Łukasz", "Zieliński", "lukasz.z@example.com", "Tech Solutions", Position.MANAGER);
+        anna = new Employee("Anna", "Zielińska", "anna.z@example.com", "Łódź Software", Position.INTERN);
+        service = new EmployeeService(new Employee[]{lukasz, anna});
+        index = new FullTextIndex(service);
+    }
+
+    private List<Employee> employees(List<SearchHit> hits) {
+        return hits.stream().map(SearchHit::getEmployee).toList();
+    }
+
+    @Test
+    void search_ignoresCaseAndDiacritics() {
+        assertEquals(List.of(lukasz), employees(index.search("zielinski", FullTextIndex.Mode.AND, 10)));
+        assertEquals(List.of(lukasz), employees(index.search("LUKASZ", FullTextIndex.Mode.AND, 10)));
+        assertEquals(List.of(anna), employees(index.search("lodz", FullTextIndex.Mode.AND, 10)));
+    }
+
+    @Test
+    void andRequiresAllTerms_orAcceptsAny() {
+        assertEquals(List.of(anna), employees(index.search("anna software", FullTextIndex.Mode.AND, 10)));
+        assertTrue(index.search("anna tech", FullTextIndex.Mode.AND, 10).isEmpty());
+        assertEquals(2, index.search("anna tech", FullTextIndex.Mode.OR, 10).size());
+    }
+
+    @Test
+    void surnameMatch_ranksAboveCompanyMatch() {
+        Employee kowalski = new Employee("Jan", "Kowalski", "jan@example.com", "Zieliński i Syn", Position.INTERN);
+        service.addEmployee(kowalski);
+
+        List<SearchHit> hits = index.search("zielinski", FullTextIndex.Mode.OR, 10);
+
+        assertEquals(List.of(lukasz, kowalski), employees(hits));
+        assertTrue(hits.get(0).getScore() > hits.get(1).getScore());
+    }
+
+    @Test
+    void index_followsUpdatesAndDeletes() {
+        Employee renamed = anna.copy();
+        renamed.setSurname("Nowak");
+        service.updateEmployee(renamed);
+        service.deleteEmployee("lukasz.z@example.com");
+
+        assertTrue(index.search("zielinska", FullTextIndex.Mode.OR, 10).isEmpty());
+        assertTrue(index.search("zielinski", FullTextIndex.Mode.OR, 10).isEmpty());
+        assertEquals(List.of(renamed), employees(index.search("nowak", FullTextIndex.Mode.AND, 10)));
+    }
+
+    @Test
+    void search_respectsLimit() {
+        assertEquals(1, index.search("example", FullTextIndex.Mode.AND, 1).size());
+    }
+}
@@ -0,0 +1,75 @@
+package org.example.service;
+
+import org.example.enums.RateLimitTier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RateLimiterTest {
+
+    private AtomicLong now;
+    private RateLimiter limiter;
+
+    @BeforeEach
+    void setup() {
+        now = new AtomicLong(1_000_000_000L);
+        limiter = new RateLimiter(true, 4, 5, 5, 2, 1, now::get);
+    }
+
+    @Test
+    void burstUpToCapacity_thenRejectedWithRetryTime() {
+        assertEquals(0, limiter.tryAcquire("a", RateLimitTier.SCAN));
+        assertEquals(0, limiter.tryAcquire("a", RateLimitTier.SCAN));
+
+        long wait = limiter.tryAcquire("a", RateLimitTier.SCAN);
+
+        assertEquals(TimeUnit.SECONDS.toNanos(1), wait);
+        assertEquals(2L, limiter.getMetrics().get("allowed"));
+        assertEquals(1L, limiter.getMetrics().get("rejected"));
+    }
+
+    @Test
+    void tokensRefillOverTime() {
+        limiter.tryAcquire("a", RateLimitTier.SCAN);
+        limiter.tryAcquire("a", RateLimitTier.SCAN);
+        assertTrue(limiter.tryAcquire("a", RateLimitTier.SCAN) > 0);
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+
+        assertEquals(0, limiter.tryAcquire("a", RateLimitTier.SCAN));
+        assertTrue(limiter.tryAcquire("a", RateLimitTier.SCAN) > 0);
+    }
+
+    @Test
+    void tiersAndClients_haveSeparateBudgets() {
+        limiter.tryAcquire("a", RateLimitTier.SCAN);
+        limiter.tryAcquire("a", RateLimitTier.SCAN);
+        assertTrue(limiter.tryAcquire("a", RateLimitTier.SCAN) > 0);
+
+        assertEquals(0, limiter.tryAcquire("a", RateLimitTier.POINT));
+        assertEquals(0, limiter.tryAcquire("b", RateLimitTier.SCAN));
+    }
+
+    @Test
+    void trackedClients_boundedByMaxClients() {
+        for (int i = 0; i < 100; i++) {
+            limiter.tryAcquire("client" + i, RateLimitTier.POINT);
+        }
+
+        assertTrue((Integer) limiter.getMetrics().get("trackedClients") <= 4);
+        assertTrue((Long) limiter.getMetrics().get("evictions") > 0);
+    }
+
+    @Test
+    void disabled_alwaysAllows() {
+        RateLimiter disabled = new RateLimiter(false, 4, 1, 1, 1, 1, now::get);
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(0, disabled.tryAcquire("a", RateLimitTier.SCAN));
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package org.example.service;
+
+import org.example.model.Employee;
+import org.example.model.Position;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SalaryDistributionIndexTest {
+
+    private EmployeeService service;
+    private SalaryDistributionIndex index;
+
+    @BeforeEach
+    void setup() {
+        Employee[] employees = new Employee[100];
+        for (int i = 0; i < employees.length; i++) {
+            employees[i] = new Employee("Name" + i, "Surname" + i, "user" + i + "@example.com", "ABC", Position.INTERN);
+            employees[i].setSalary(1000 + i * 100);
+        }
+        service = new EmployeeService(employees);
+        index = new SalaryDistributionIndex(service);
+    }
+
+    @Test
+    void percentiles_withinBucketPrecision() {
+        double[] values = index.company("abc").percentiles(50, 90, 99);
+
+        assertEquals(100, index.company("ABC").count());
+        assertEquals(5900, values[0], 5900 * 0.04);
+        assertEquals(9900, values[1], 9900 * 0.04);
+        assertEquals(10800, values[2], 10800 * 0.04);
+    }
+
+    @Test
+    void percentiles_exactWhenGroupShareSalary() {
+        service.addEmployee(new Employee("Jan", "Kowalski", "jan@example.com", "XYZ", Position.MANAGER));
+        service.addEmployee(new Employee("Anna", "Nowak", "anna@example.com", "XYZ", Position.MANAGER));
+
+        assertArrayEquals(new double[]{12000, 12000}, index.position(Position.MANAGER).percentiles(50, 99));
+        assertEquals(List.of(new SalaryHistogram.Bucket(11776, 12032, 2)), index.company("xyz").buckets());
+    }
+
+    @Test
+    void histograms_followUpdatesAndDeletes() {
+        Employee employee = service.getEmployeeByEmail("user0@example.com");
+        employee.setSalary(50000);
+        employee.setCompanyName("XYZ");
+
+        assertEquals(99, index.company("ABC").count());
+        assertArrayEquals(new double[]{50000}, index.company("XYZ").percentiles(50));
+        assertEquals(100, index.all().count());
+
+        service.deleteEmployee("user0@example.com");
+        assertNull(index.company("XYZ"));
+        assertEquals(99, index.position(Position.INTERN).count());
+        assertEquals(99, index.all().count());
+    }
+
+    @Test
+    void bucketIndex_boundsContainValue() {
+        for (double salary : new double[]{0, 0.5, 1, 3000, 12000, 12345.67, 1_000_000}) {
+            int bucket = SalaryHistogram.bucketIndex(salary);
+            assertTrue(SalaryHistogram.lowerBound(bucket) <= salary);
+            assertTrue(salary < SalaryHistogram.upperBound(bucket));
+        }
+    }
+
+    @Test
+    void overflowBucket_isSeparateFromLastRegularBucket() {
+        double overflowFrom = Math.scalb(1.0, SalaryHistogram.MAX_EXPONENT);
+        int lastRegular = SalaryHistogram.bucketIndex(Math.nextDown(overflowFrom));
+        int overflow = SalaryHistogram.bucketIndex(overflowFrom);
+
+        assertEquals(SalaryHistogram.OVERFLOW_INDEX, overflow);
+        assertEquals(overflow, SalaryHistogram.bucketIndex(1e12));
+        assertTrue(lastRegular < overflow);
+        assertEquals(overflowFrom, SalaryHistogram.upperBound(lastRegular));
+
+        SalaryHistogram histogram = new SalaryHistogram();
+        histogram.record(Math.nextDown(overflowFrom));
+        histogram.record(5e9);
+        assertEquals(List.of(
+                new SalaryHistogram.Bucket(SalaryHistogram.lowerBound(lastRegular), overflowFrom, 1),
+                new SalaryHistogram.Bucket(overflowFrom, Double.POSITIVE_INFINITY, 1)), histogram.buckets());
+        assertArrayEquals(new double[]{5e9}, histogram.percentiles(100));
+    }
+}
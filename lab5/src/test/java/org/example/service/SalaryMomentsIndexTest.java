@@ -0,0 +1,79 @@
+package org.example.service;
+
+import org.example.enums.EmploymentStatus;
+import org.example.model.Employee;
+import org.example.model.Position;
+import org.example.model.SalaryMoments;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SalaryMomentsIndexTest {
+
+    private EmployeeService service;
+    private SalaryMomentsIndex index;
+    private Employee jan;
+    private Employee anna;
+    private Employee piotr;
+
+    @BeforeEach
+    void setup() {
+        jan = new Employee("Jan", "Kowalski", "jan@example.com", "ABC", Position.MANAGER);
+        anna = new Employee("Anna", "Nowak", "anna@example.com", "ABC", Position.INTERN);
+        piotr = new Employee("Piotr", "Zalewski", "piotr@example.com", "XYZ", Position.INTERN);
+        jan.setStatus(EmploymentStatus.ACTIVE);
+        anna.setStatus(EmploymentStatus.ACTIVE);
+        piotr.setStatus(EmploymentStatus.ON_LEAVE);
+        service = new EmployeeService(new Employee[]{jan, anna, piotr});
+        index = new SalaryMomentsIndex(service);
+    }
+
+    @Test
+    void moments_perGroup() {
+        SalaryMoments abc = index.byCompany().get("abc");
+
+        assertEquals(2, abc.getCount());
+        assertEquals(7500.0, abc.getMean(), 1e-9);
+        assertEquals(4500.0, abc.getStandardDeviation(), 1e-9);
+        assertEquals(3000.0, abc.getMin());
+        assertEquals(12000.0, abc.getMax());
+        assertEquals(2, index.byPosition().get(Position.INTERN).getCount());
+        assertEquals(Set.of(EmploymentStatus.ACTIVE, EmploymentStatus.ON_LEAVE), index.byStatus().keySet());
+    }
+
+    @Test
+    void moments_followUpdatesAndDeletes() {
+        jan.setSalary(5000);
+        SalaryMoments abc = index.byCompany().get("abc");
+        assertEquals(4000.0, abc.getMean(), 1e-9);
+        assertEquals(1000.0, abc.getStandardDeviation(), 1e-9);
+        assertEquals(5000.0, abc.getMax());
+
+        anna.setCompanyName("XYZ");
+        assertEquals(5000.0, index.byCompany().get("abc").getMin());
+        assertEquals(0.0, index.byCompany().get("abc").getStandardDeviation(), 1e-9);
+
+        service.deleteEmployee("jan@example.com");
+        assertNull(index.byCompany().get("abc"));
+        assertNull(index.byPosition().get(Position.MANAGER));
+        assertEquals(1, index.byStatus().get(EmploymentStatus.ACTIVE).getCount());
+    }
+
+    @Test
+    void merge_matchesSingleGroup() {
+        SalaryMoments total = SalaryMoments.EMPTY;
+        for (SalaryMoments moments : index.byCompany().values()) {
+            total = total.merge(moments);
+        }
+        SalaryMoments direct = SalaryMoments.EMPTY.add(12000).add(3000).add(3000);
+
+        assertEquals(direct.getCount(), total.getCount());
+        assertEquals(direct.getMean(), total.getMean(), 1e-9);
+        assertEquals(direct.getVariance(), total.getVariance(), 1e-6);
+        assertEquals(3000.0, total.getMin());
+        assertEquals(12000.0, total.getMax());
+    }
+}
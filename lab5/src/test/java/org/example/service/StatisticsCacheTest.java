@@ -0,0 +1,155 @@
+package org.example.service;
+
+import org.example.model.Employee;
+import org.example.model.Position;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StatisticsCacheTest {
+
+    private EmployeeService service;
+    private StatisticsCache cache;
+    private Employee jan;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setup() {
+        jan = new Employee("Jan", "Kowalski", "jan.k@example.com", "ABC", Position.MANAGER);
+        Employee piotr = new Employee("Piotr", "Zalewski", "piotr.z@example.com", "XYZ", Position.INTERN);
+        service = new EmployeeService(new Employee[]{jan, piotr});
+        cache = new StatisticsCache(service, 2);
+        loads = new AtomicInteger();
+    }
+
+    private Supplier<Integer> counting() {
+        return loads::incrementAndGet;
+    }
+
+    @Test
+    void get_secondCall_servedFromCache() {
+        cache.get("company/ABC", Set.of(StatisticsCache.companyTag("ABC")), counting());
+        cache.get("company/ABC", Set.of(StatisticsCache.companyTag("ABC")), counting());
+
+        assertEquals(1, loads.get());
+        assertEquals(1L, cache.getMetrics().get("hits"));
+        assertEquals(0.5, cache.getMetrics().get("hitRate"));
+    }
+
+    @Test
+    void salaryChange_invalidatesOnlyAffectedCompany() {
+        cache.get("company/ABC", Set.of(StatisticsCache.companyTag("ABC")), counting());
+        cache.get("company/XYZ", Set.of(StatisticsCache.companyTag("XYZ")), counting());
+
+        jan.setSalary(jan.getSalary() + 1000);
+
+        cache.get("company/ABC", Set.of(StatisticsCache.companyTag("ABC")), counting());
+        cache.get("company/XYZ", Set.of(StatisticsCache.companyTag("XYZ")), counting());
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void replacingEmployee_invalidatesOldAndNewCompany() {
+        cache.get("company/ABC", Set.of(StatisticsCache.companyTag("ABC")), counting());
+        cache.get("positions", Set.of(StatisticsCache.POSITIONS), counting());
+
+        Employee moved = jan.copy();
+        moved.setCompanyName("XYZ");
+        service.updateEmployee(moved);
+
+        cache.get("company/ABC", Set.of(StatisticsCache.companyTag("ABC")), counting());
+        cache.get("positions", Set.of(StatisticsCache.POSITIONS), counting());
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void addAndDelete_invalidateGlobalStatistics() {
+        cache.get("salary/average", Set.of(StatisticsCache.SALARIES), counting());
+        service.addEmployee(new Employee("Ewa", "Mak", "ewa@example.com", "NEW", Position.INTERN));
+        cache.get("salary/average", Set.of(StatisticsCache.SALARIES), counting());
+        service.deleteEmployee("ewa@example.com");
+        cache.get("salary/average", Set.of(StatisticsCache.SALARIES), counting());
+
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void get_overCapacity_evictsLeastRecentlyUsed() {
+        cache.get("a", Set.of(), counting());
+        cache.get("b", Set.of(), counting());
+        cache.get("a", Set.of(), counting());
+        cache.get("c", Set.of(), counting());
+
+        cache.get("a", Set.of(), counting());
+        assertEquals(3, loads.get());
+        cache.get("b", Set.of(), counting());
+        assertEquals(4, loads.get());
+        assertEquals(2L, cache.getMetrics().get("evictions"));
+    }
+
+    @Test
+    void resultComputedDuringWrite_isNotCached() {
+        cache.get("company/ABC", Set.of(StatisticsCache.companyTag("ABC")), () -> {
+            jan.setSalary(1);
+            return loads.incrementAndGet();
+        });
+        cache.get("company/ABC", Set.of(StatisticsCache.companyTag("ABC")), counting());
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void concurrentMisses_shareSingleComputation() throws Exception {
+        int callers = 8;
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(pool.submit(() -> cache.get("salary/average", Set.of(StatisticsCache.SALARIES), () -> {
+                    awaitQuietly(release);
+                    return loads.incrementAndGet();
+                })));
+            }
+            while ((long) cache.getMetrics().get("coalesced") < callers - 1) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+
+            for (Future<Integer> result : results) {
+                assertEquals(1, result.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, loads.get());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void get_loaderFailure_isNotCached() {
+        assertThrows(IllegalStateException.class, () -> cache.get("positions", Set.of(), () -> {
+            throw new IllegalStateException("boom");
+        }));
+        assertEquals(1, cache.get("positions", Set.of(), counting()));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package org.example.support;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Lokalny serwer HTTP udający zewnętrzne API z użytkownikami.
+ * Pozwala symulować opóźnienia oraz błędy (np. pierwsze N odpowiedzi z kodem 503).
+ */
+public class StubApiServer implements AutoCloseable {
+
+    public static final String DEFAULT_BODY =
+            "[{\"id\":1,\"name\":\"Jan Kowalski\",\"email\":\"jan@x.com\",\"company\":{\"name\":\"X\"}}]";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final AtomicInteger requestCount = new AtomicInteger();
+    // port klienta identyfikuje połączenie TCP
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger failuresLeft = new AtomicInteger();
+    private volatile int failureStatus = 503;
+    private volatile long latencyMs;
+    private volatile String body = DEFAULT_BODY;
+
+    public StubApiServer() throws IOException {
+        this(64);
+    }
+
+    public StubApiServer(int threads) throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        executor = Executors.newFixedThreadPool(threads);
+        server.setExecutor(executor);
+        server.createContext("/users", exchange -> {
+            requestCount.incrementAndGet();
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            try {
+                if (latencyMs > 0) {
+                    Thread.sleep(latencyMs);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            int status = 200;
+            byte[] payload = body.getBytes(StandardCharsets.UTF_8);
+            if (failuresLeft.getAndUpdate(n -> n > 0 ? n - 1 : 0) > 0) {
+                status = failureStatus;
+                payload = "{\"error\":\"unavailable\"}".getBytes(StandardCharsets.UTF_8);
+            }
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, payload.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(payload);
+            }
+        });
+        server.start();
+    }
+
+    public String url() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/users";
+    }
+
+    public StubApiServer withLatency(long latencyMs) {
+        this.latencyMs = latencyMs;
+        return this;
+    }
+
+    public StubApiServer failNext(int count, int status) {
+        this.failureStatus = status;
+        this.failuresLeft.set(count);
+        return this;
+    }
+
+    public StubApiServer withBody(String body) {
+        this.body = body;
+        return this;
+    }
+
+    public int getRequestCount() {
+        return requestCount.get();
+    }
+
+    public int getConnectionCount() {
+        return clientPorts.size();
+    }
+
+    public void resetConnectionCount() {
+        clientPorts.clear();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}